@@ -0,0 +1,89 @@
+package com.seanpatrickmiller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.fingertree.Sequence;
+import org.seanpatrickmiller.containers.fingertree.SequenceFactory;
+
+/**
+ * Inserts and deletes a block of elements in the middle of a large sequence.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkBlockEdit
+{
+    private static final int SIZE = 1048576;
+
+    @Param({"16", "1024"})
+    private int block;
+
+    private Sequence<Integer> sequence;
+    private List<Integer> items;
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        final Integer[] array = new Integer[SIZE];
+        for (int i = 0; i < SIZE; ++i)
+        {
+            array[i] = i;
+        }
+        this.sequence = new SequenceFactory<Integer>().fromArray(array);
+
+        this.items = new ArrayList<>();
+        for (int i = 0; i < this.block; ++i)
+        {
+            this.items.add(-i);
+        }
+    }
+
+    @Benchmark
+    public Sequence<Integer> testInsertEach()
+    {
+        Sequence<Integer> result = this.sequence;
+        int index = SIZE / 2;
+        for (final Integer i : this.items)
+        {
+            result = result.insert(index++, i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Sequence<Integer> testInsertAll()
+    {
+        return this.sequence.insertAll(SIZE / 2, this.items);
+    }
+
+    @Benchmark
+    public Sequence<Integer> testDeleteEach()
+    {
+        Sequence<Integer> result = this.sequence;
+        for (int i = 0; i < this.block; ++i)
+        {
+            result = result.delete(SIZE / 2);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Sequence<Integer> testDeleteRange()
+    {
+        return this.sequence.deleteRange(SIZE / 2, SIZE / 2 + this.block);
+    }
+}
@@ -0,0 +1,87 @@
+package com.seanpatrickmiller;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.fingertree.Sequence;
+import org.seanpatrickmiller.containers.fingertree.SequenceFactory;
+import org.seanpatrickmiller.containers.fingertree.TransientSequence;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkBulkConstruction
+{
+    @Param({"1024", "65536", "1048576"})
+    private int size;
+
+    private SequenceFactory<Integer> factory;
+    private Integer[] array;
+    private ArrayList<Integer> arrayList;
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        this.factory = new SequenceFactory<>();
+        this.array = new Integer[this.size];
+        for (int i = 0; i < this.size; ++i)
+        {
+            this.array[i] = i;
+        }
+        this.arrayList = new ArrayList<>(Arrays.asList(this.array));
+    }
+
+    @Benchmark
+    public ArrayList<Integer> testArrayList()
+    {
+        return new ArrayList<>(Arrays.asList(this.array));
+    }
+
+    @Benchmark
+    public Sequence<Integer> testPushBack()
+    {
+        Sequence<Integer> sequence = this.factory.makeEmpty();
+        for (final Integer i : this.array)
+        {
+            sequence = sequence.pushBack(i);
+        }
+        return sequence;
+    }
+
+    @Benchmark
+    public Sequence<Integer> testTransientPushBack()
+    {
+        final TransientSequence<Integer> sequence =
+            this.factory.makeEmpty().asTransient();
+        for (final Integer i : this.array)
+        {
+            sequence.pushBack(i);
+        }
+        return sequence.persistent();
+    }
+
+    @Benchmark
+    public Sequence<Integer> testFromArray()
+    {
+        return this.factory.fromArray(this.array);
+    }
+
+    @Benchmark
+    public Sequence<Integer> testFromCollection()
+    {
+        return this.factory.fromCollection(this.arrayList);
+    }
+}
@@ -0,0 +1,71 @@
+package com.seanpatrickmiller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.fingertree.Sequence;
+import org.seanpatrickmiller.containers.fingertree.SequenceFactory;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkConcatenation
+{
+    private static final int SIZE = 65536;
+
+    @Param({"16", "256", "4096"})
+    private int pieces;
+
+    private Sequence<Integer> empty;
+    private List<Sequence<Integer>> slices;
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        final SequenceFactory<Integer> factory = new SequenceFactory<>();
+        final Integer[] array = new Integer[SIZE];
+        for (int i = 0; i < SIZE; ++i)
+        {
+            array[i] = i;
+        }
+        final Sequence<Integer> whole = factory.fromArray(array);
+
+        this.empty = factory.makeEmpty();
+        this.slices = new ArrayList<>();
+        final int step = SIZE / this.pieces;
+        for (int i = 0; i < SIZE; i += step)
+        {
+            this.slices.add(whole.drop(i).take(step));
+        }
+    }
+
+    @Benchmark
+    public Sequence<Integer> testFoldAppend()
+    {
+        Sequence<Integer> result = this.empty;
+        for (final Sequence<Integer> slice : this.slices)
+        {
+            result = result.append(slice);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Sequence<Integer> testConcatAll()
+    {
+        return this.empty.concatAll(this.slices);
+    }
+}
@@ -0,0 +1,84 @@
+package com.seanpatrickmiller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
+import org.seanpatrickmiller.containers.fingertree.impl.MeasurementFactory;
+import org.seanpatrickmiller.containers.fingertree.impl.Measured;
+
+/**
+ * Several threads measure the same freshly appended trees at once, so the
+ * timings include every thread racing to force the same annotations.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@Measurement(iterations=50)
+@Threads(4)
+@State(Scope.Benchmark)
+public class BenchmarkConcurrentMeasure
+{
+    private static final int TREES = 64;
+    private static final int HALF = 1024;
+
+    @Param({"lazy", "strict"})
+    private String mode;
+
+    private Measured<Integer, Integer> measured;
+    private Integer[] array;
+    private List<FingerTree<Integer, Integer>> trees;
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        final MeasurementFactory factory = new MeasurementFactory();
+        this.measured = "strict".equals(this.mode) ?
+            factory.makeStrictSequentialMeasurement() :
+            factory.makeSequentialMeasurement();
+
+        this.array = new Integer[HALF];
+        for (int i = 0; i < HALF; ++i)
+        {
+            this.array[i] = i;
+        }
+        this.trees = new ArrayList<>(TREES);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration()
+    {
+        // New trees every time, with nothing measured yet.
+        this.trees.clear();
+        for (int k = 0; k < TREES; ++k)
+        {
+            this.trees.add(FingerTree.fromArray(this.measured, this.array, 0, HALF)
+                .append(FingerTree.fromArray(this.measured, this.array, 0, HALF)));
+        }
+    }
+
+    @Benchmark
+    public int testMeasure()
+    {
+        int sum = 0;
+        for (final FingerTree<Integer, Integer> tree : this.trees)
+        {
+            sum += tree.measure();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,89 @@
+package com.seanpatrickmiller;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.fingertree.ConcurrentSequence;
+import org.seanpatrickmiller.containers.fingertree.Sequence;
+import org.seanpatrickmiller.containers.fingertree.SequenceFactory;
+
+// Several producers pushing onto the back of one shared collection. The
+// compare-and-swap loop over a plain sequence is the approach the combining
+// holder replaces.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@Threads(4)
+@State(Scope.Benchmark)
+public class BenchmarkConcurrentSequence
+{
+    private static final Integer ELEMENT = 42;
+
+    private final SequenceFactory<Integer> factory;
+
+    private ConcurrentLinkedDeque<Integer> concurrentDeque;
+    private List<Integer> synchronizedList;
+    private AtomicReference<Sequence<Integer>> atomicSequence;
+    private ConcurrentSequence<Integer> concurrentSequence;
+
+    public BenchmarkConcurrentSequence()
+    {
+        this.factory = new SequenceFactory<Integer>();
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration()
+    {
+        this.concurrentDeque = new ConcurrentLinkedDeque<>();
+        this.synchronizedList = Collections.synchronizedList(new ArrayList<Integer>());
+        this.atomicSequence = new AtomicReference<>(this.factory.makeEmpty());
+        this.concurrentSequence = new ConcurrentSequence<>(this.factory.makeEmpty());
+    }
+
+    @Benchmark
+    public boolean concurrentLinkedDeque()
+    {
+        return this.concurrentDeque.add(ELEMENT);
+    }
+
+    @Benchmark
+    public boolean synchronizedList()
+    {
+        return this.synchronizedList.add(ELEMENT);
+    }
+
+    @Benchmark
+    public Sequence<Integer> atomicSequence()
+    {
+        while (true)
+        {
+            final Sequence<Integer> seq = this.atomicSequence.get();
+            final Sequence<Integer> next = seq.pushBack(ELEMENT);
+            if (this.atomicSequence.compareAndSet(seq, next))
+            {
+                return next;
+            }
+        }
+    }
+
+    @Benchmark
+    public void concurrentSequence()
+    {
+        this.concurrentSequence.pushBack(ELEMENT);
+    }
+}
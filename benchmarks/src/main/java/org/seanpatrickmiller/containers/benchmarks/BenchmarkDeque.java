@@ -0,0 +1,73 @@
+package com.seanpatrickmiller;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.deque.DequeFactory;
+import org.seanpatrickmiller.containers.deque.PersistentDeque;
+
+// A queue workload: each operation pushes one element onto the back of a
+// queue of the given size and pops one off the front.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkDeque
+{
+    @Param({"16", "1024", "65536"})
+    private int size;
+
+    private ArrayDeque<Integer> arrayDeque;
+    private ConcurrentLinkedDeque<Integer> concurrentDeque;
+    private PersistentDeque<Integer> persistentDeque;
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        this.arrayDeque = new ArrayDeque<>();
+        this.concurrentDeque = new ConcurrentLinkedDeque<>();
+        final Integer[] elements = new Integer[size];
+        for (int i = 0; i < size; ++i)
+        {
+            elements[i] = i;
+            this.arrayDeque.addLast(i);
+            this.concurrentDeque.addLast(i);
+        }
+        this.persistentDeque = new DequeFactory<Integer>().fromArray(elements);
+    }
+
+    @Benchmark
+    public Integer arrayDeque()
+    {
+        this.arrayDeque.addLast(size);
+        return this.arrayDeque.pollFirst();
+    }
+
+    @Benchmark
+    public Integer concurrentLinkedDeque()
+    {
+        this.concurrentDeque.addLast(size);
+        return this.concurrentDeque.pollFirst();
+    }
+
+    @Benchmark
+    public Integer persistentDeque()
+    {
+        final PersistentDeque.Pop<Integer> pop =
+            this.persistentDeque.pushBack(size).popFront();
+        this.persistentDeque = pop.rest;
+        return pop.element;
+    }
+}
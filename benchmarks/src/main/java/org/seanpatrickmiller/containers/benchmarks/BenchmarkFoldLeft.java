@@ -0,0 +1,64 @@
+package com.seanpatrickmiller;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.fingertree.Sequence;
+import org.seanpatrickmiller.containers.fingertree.SequenceFactory;
+import org.seanpatrickmiller.containers.util.Functions;
+
+// Sums a million elements with the Curried fold, which builds a closure per
+// element, against the fold that takes a BiFunction, and against summing an
+// int drawn from each element without boxing the running total.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkFoldLeft
+{
+    private static final int SIZE = 1 << 20;
+
+    @Param({"0", "64"})
+    public int chunkSize;
+
+    private Sequence<Integer> sequence;
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        final Integer[] array = new Integer[SIZE];
+        for (int i = 0; i < SIZE; ++i)
+        {
+            array[i] = i & 1023;
+        }
+        this.sequence = new SequenceFactory<Integer>(chunkSize).fromArray(array);
+    }
+
+    @Benchmark
+    public Integer testCurriedFoldLeft()
+    {
+        return this.sequence.foldLeft(Functions.ADD, 0);
+    }
+
+    @Benchmark
+    public Integer testBiFunctionFoldLeft()
+    {
+        return this.sequence.foldLeft((Integer acc, Integer x) -> acc + x, 0);
+    }
+
+    @Benchmark
+    public int testSumInt()
+    {
+        return this.sequence.sumInt(x -> x);
+    }
+}
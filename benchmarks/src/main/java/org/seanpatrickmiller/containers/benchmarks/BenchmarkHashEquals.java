@@ -0,0 +1,81 @@
+package com.seanpatrickmiller;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.fingertree.Sequence;
+import org.seanpatrickmiller.containers.fingertree.SequenceFactory;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkHashEquals
+{
+    private static final int SIZE = 65536;
+
+    private final Random rand;
+
+    private ArrayList<Integer> arrayList;
+    private ArrayList<Integer> arrayListCopy;
+    private Sequence<Integer> sequence;
+    private Sequence<Integer> sequenceCopy;
+
+    public BenchmarkHashEquals()
+    {
+        this.rand = new Random(System.currentTimeMillis());
+    }
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        final Integer[] array = new Integer[SIZE];
+        for (int i = 0; i < SIZE; ++i)
+        {
+            array[i] = i;
+        }
+        this.arrayList = new ArrayList<>(Arrays.asList(array));
+        this.arrayListCopy = new ArrayList<>(this.arrayList);
+        this.sequence = new SequenceFactory<Integer>().fromArray(array);
+        this.sequence.hashCode();
+
+        // An edited copy that happens to hold the same elements.
+        this.sequenceCopy = this.sequence.update(SIZE / 2, new Integer(SIZE / 2));
+    }
+
+    @Benchmark
+    public int testArrayListHashCode()
+    {
+        return this.arrayList.hashCode();
+    }
+
+    @Benchmark
+    public int testSequenceHashCodeAfterUpdate()
+    {
+        return this.sequence.update(rand.nextInt(SIZE), -1).hashCode();
+    }
+
+    @Benchmark
+    public boolean testArrayListEquals()
+    {
+        return this.arrayList.equals(this.arrayListCopy);
+    }
+
+    @Benchmark
+    public boolean testSequenceEqualsEditedCopy()
+    {
+        return this.sequence.equals(this.sequenceCopy);
+    }
+}
@@ -0,0 +1,147 @@
+package com.seanpatrickmiller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.intervaltree.IntervalTree;
+import org.seanpatrickmiller.containers.intervaltree.IntervalTreeFactory;
+import org.seanpatrickmiller.containers.util.LongFunc;
+
+// Counts the intervals overlapping a short random range. The TreeMap indexes
+// the intervals by low endpoint and tracks the longest interval, so it only
+// scans the intervals that start within that length of the range.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkIntervalTree
+{
+    private static final int SIZE = 65536;
+    private static final int SPAN = 1 << 24;
+
+    private static final class Span
+    {
+        final long low;
+        final long high;
+
+        Span(final long low, final long high)
+        {
+            this.low = low;
+            this.high = high;
+        }
+    }
+
+    private final Random rand;
+
+    private Span[] spans;
+    private TreeMap<Long, List<Span>> treeMap;
+    private long longest;
+    private IntervalTree<Span> intervalTree;
+
+    public BenchmarkIntervalTree()
+    {
+        this.rand = new Random(System.currentTimeMillis());
+    }
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        this.spans = new Span[SIZE];
+        this.treeMap = new TreeMap<>();
+        this.longest = 0;
+        for (int i = 0; i < SIZE; ++i)
+        {
+            final long low = rand.nextInt(SPAN);
+            final long length = (i % 64 == 0) ? rand.nextInt(SPAN / 64) : rand.nextInt(1024);
+            this.spans[i] = new Span(low, low + length);
+            this.longest = Math.max(this.longest, length);
+
+            List<Span> bucket = this.treeMap.get(low);
+            if (null == bucket)
+            {
+                bucket = new ArrayList<>(1);
+                this.treeMap.put(low, bucket);
+            }
+            bucket.add(this.spans[i]);
+        }
+
+        this.intervalTree = new IntervalTreeFactory<Span>(
+            new LongFunc<Span>() {
+                @Override
+                public long call(final Span s)
+                {
+                    return s.low;
+                }
+            },
+            new LongFunc<Span>() {
+                @Override
+                public long call(final Span s)
+                {
+                    return s.high;
+                }
+            }).fromArray(this.spans);
+    }
+
+    @Benchmark
+    public int testLinearScan()
+    {
+        final long lo = rand.nextInt(SPAN);
+        final long hi = lo + 256;
+        int count = 0;
+        for (final Span s : this.spans)
+        {
+            if (s.low <= hi && s.high >= lo)
+            {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int testTreeMap()
+    {
+        final long lo = rand.nextInt(SPAN);
+        final long hi = lo + 256;
+        int count = 0;
+        for (final Map.Entry<Long, List<Span>> entry :
+            this.treeMap.subMap(lo - this.longest, true, hi, true).entrySet())
+        {
+            for (final Span s : entry.getValue())
+            {
+                if (s.high >= lo)
+                {
+                    ++count;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int testIntervalTree()
+    {
+        final long lo = rand.nextInt(SPAN);
+        final long hi = lo + 256;
+        int count = 0;
+        for (final Span s : this.intervalTree.intersections(lo, hi))
+        {
+            ++count;
+        }
+        return count;
+    }
+}
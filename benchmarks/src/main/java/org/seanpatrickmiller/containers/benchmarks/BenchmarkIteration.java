@@ -1,6 +1,7 @@
 package com.seanpatrickmiller;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.Random;
 import java.util.Vector;
 import java.util.concurrent.TimeUnit;
@@ -29,6 +30,7 @@ public class BenchmarkIteration
     private ArrayList<Integer> arrayList;
     private Vector<Integer> vector;
     private Sequence<Integer> sequence;
+    private Sequence<Integer> chunkedSequence;
 
     public BenchmarkIteration()
     {
@@ -41,11 +43,13 @@ public class BenchmarkIteration
         this.arrayList = new ArrayList<>();
         this.vector = new Vector<>();
         this.sequence = new SequenceFactory().makeEmpty();
+        this.chunkedSequence = new SequenceFactory(32).makeEmpty();
         for (int i = 0; i < 16384; ++i)
         {
             this.arrayList.add(i);
             this.vector.add(i);
             this.sequence = sequence.pushBack(i);
+            this.chunkedSequence = chunkedSequence.pushBack(i);
         }
     }
 
@@ -81,4 +85,27 @@ public class BenchmarkIteration
         }
         return sum;
     }
+
+    @Benchmark
+    public int testSequenceDescending()
+    {
+        int sum = 0;
+        final Iterator<Integer> iter = this.sequence.descendingIterator();
+        while (iter.hasNext())
+        {
+            sum += iter.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int testChunkedSequence()
+    {
+        int sum = 0;
+        for (final Integer i : this.chunkedSequence)
+        {
+            sum += i;
+        }
+        return sum;
+    }
 }
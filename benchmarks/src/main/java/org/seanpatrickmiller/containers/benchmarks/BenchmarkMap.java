@@ -0,0 +1,69 @@
+package com.seanpatrickmiller;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.fingertree.Sequence;
+import org.seanpatrickmiller.containers.fingertree.SequenceFactory;
+import org.seanpatrickmiller.containers.util.Func;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkMap
+{
+    private static final int SIZE = 1 << 20;
+
+    // Enough work per element for the mapping itself to matter.
+    private static final Func<Integer, Long> MIX = new Func<Integer, Long>() {
+        @Override
+        public Long call(final Integer x)
+        {
+            long h = x;
+            for (int k = 0; k < 16; ++k)
+            {
+                h = (h ^ (h >>> 31)) * 0x9E3779B97F4A7C15L;
+            }
+            return h;
+        }
+    };
+
+    @Param({"0", "64"})
+    public int chunkSize;
+
+    private Sequence<Integer> sequence;
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        final Integer[] array = new Integer[SIZE];
+        for (int i = 0; i < SIZE; ++i)
+        {
+            array[i] = i;
+        }
+        this.sequence = new SequenceFactory<Integer>(chunkSize).fromArray(array);
+    }
+
+    @Benchmark
+    public Sequence<Long> testMap()
+    {
+        return this.sequence.map(MIX);
+    }
+
+    @Benchmark
+    public Sequence<Long> testParallelMap()
+    {
+        return this.sequence.parallelMap(MIX);
+    }
+}
@@ -0,0 +1,96 @@
+package com.seanpatrickmiller;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
+import org.seanpatrickmiller.containers.fingertree.impl.Measured;
+import org.seanpatrickmiller.containers.util.Func;
+import org.seanpatrickmiller.containers.util.Functions;
+import org.seanpatrickmiller.containers.util.Monoid;
+import org.seanpatrickmiller.containers.util.Monoids;
+
+// Recomputes annotations by building a strict tree, which sums the measure
+// of every node as it goes, and by splitting it, which sums down one path.
+// The same monoid is summed either through a Curried operation, which builds
+// a closure per sum, or in one call.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkMonoidSum
+{
+    private static final int SIZE = 65536;
+
+    // Both trees box their sums alike, so the difference between them is the
+    // closure per sum.
+    private static final Func<Integer, Integer> PARITY = new Func<Integer, Integer>() {
+        @Override
+        public Integer call(final Integer i)
+        {
+            return i & 1;
+        }
+    };
+
+    private final Integer[] array;
+    private final Measured<Integer, Integer> curried;
+    private final Measured<Integer, Integer> uncurried;
+    private final FingerTree<Integer, Integer> curriedTree;
+    private final FingerTree<Integer, Integer> uncurriedTree;
+
+    public BenchmarkMonoidSum()
+    {
+        this.array = new Integer[SIZE];
+        for (int i = 0; i < SIZE; ++i)
+        {
+            this.array[i] = i;
+        }
+
+        this.curried = new Measured<>(new Monoid<>(Functions.ADD, 0), PARITY, true);
+        this.uncurried = new Measured<>(Monoids.SUM, PARITY, true);
+        this.curriedTree = FingerTree.fromArray(this.curried, this.array, 0, SIZE);
+        this.uncurriedTree = FingerTree.fromArray(this.uncurried, this.array, 0, SIZE);
+    }
+
+    private static Func<Integer, Boolean> past(final int bound)
+    {
+        return new Func<Integer, Boolean>() {
+            @Override
+            public Boolean call(final Integer v)
+            {
+                return v > bound;
+            }
+        };
+    }
+
+    @Benchmark
+    public FingerTree<Integer, Integer> buildCurried()
+    {
+        return FingerTree.fromArray(this.curried, this.array, 0, SIZE);
+    }
+
+    @Benchmark
+    public FingerTree<Integer, Integer> buildUncurried()
+    {
+        return FingerTree.fromArray(this.uncurried, this.array, 0, SIZE);
+    }
+
+    @Benchmark
+    public FingerTree.SplitPair<Integer, Integer> splitCurried()
+    {
+        return this.curriedTree.split(past(SIZE / 4));
+    }
+
+    @Benchmark
+    public FingerTree.SplitPair<Integer, Integer> splitUncurried()
+    {
+        return this.uncurriedTree.split(past(SIZE / 4));
+    }
+}
@@ -0,0 +1,94 @@
+package com.seanpatrickmiller;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.fingertree.OrderedSequence;
+import org.seanpatrickmiller.containers.fingertree.OrderedSequenceFactory;
+
+// Merges a batch of keys into a large index, keeping the original intact.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkOrderedSequence
+{
+    private static final int SIZE = 65536;
+
+    @Param({"16", "1024", "65536"})
+    public int batch;
+
+    private TreeSet<Integer> index;
+    private TreeSet<Integer> updates;
+    private OrderedSequence<Integer> orderedIndex;
+    private OrderedSequence<Integer> orderedUpdates;
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        final Random rand = new Random(System.currentTimeMillis());
+        final OrderedSequenceFactory<Integer> factory = OrderedSequenceFactory.natural();
+
+        final Integer[] xs = new Integer[SIZE];
+        for (int i = 0; i < SIZE; ++i)
+        {
+            xs[i] = rand.nextInt();
+        }
+        final Integer[] ys = new Integer[batch];
+        for (int i = 0; i < batch; ++i)
+        {
+            ys[i] = rand.nextInt();
+        }
+
+        this.index = new TreeSet<>(java.util.Arrays.asList(xs));
+        this.updates = new TreeSet<>(java.util.Arrays.asList(ys));
+        this.orderedIndex = factory.fromArray(xs);
+        this.orderedUpdates = factory.fromArray(ys);
+    }
+
+    @Benchmark
+    public TreeSet<Integer> testTreeSetCopyUnion()
+    {
+        final TreeSet<Integer> result = new TreeSet<>(this.index);
+        result.addAll(this.updates);
+        return result;
+    }
+
+    @Benchmark
+    public OrderedSequence<Integer> testOrderedSequenceUnion()
+    {
+        return this.orderedIndex.union(this.orderedUpdates);
+    }
+
+    @Benchmark
+    public TreeSet<Integer> testTreeSetCopyDifference()
+    {
+        final TreeSet<Integer> result = new TreeSet<>(this.index);
+        result.removeAll(this.updates);
+        return result;
+    }
+
+    @Benchmark
+    public OrderedSequence<Integer> testOrderedSequenceDifference()
+    {
+        return this.orderedIndex.difference(this.orderedUpdates);
+    }
+
+    @Benchmark
+    public OrderedSequence<Integer> testOrderedSequenceIntersection()
+    {
+        return this.orderedIndex.intersection(this.orderedUpdates);
+    }
+}
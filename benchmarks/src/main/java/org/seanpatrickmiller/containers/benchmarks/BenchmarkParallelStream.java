@@ -0,0 +1,93 @@
+package com.seanpatrickmiller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.fingertree.Sequence;
+import org.seanpatrickmiller.containers.fingertree.SequenceFactory;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkParallelStream
+{
+    @Param({"65536", "1048576"})
+    private int size;
+
+    private ArrayList<Integer> arrayList;
+    private Sequence<Integer> sequence;
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        this.arrayList = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; ++i)
+        {
+            this.arrayList.add(i);
+        }
+        this.sequence = new SequenceFactory<Integer>().fromCollection(
+            this.arrayList);
+    }
+
+    @Benchmark
+    public long testArrayListSum()
+    {
+        return this.arrayList.parallelStream().mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long testSequenceSum()
+    {
+        return this.sequence.parallelStream().mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long testSequentialSequenceSum()
+    {
+        return this.sequence.stream().mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long testArrayListMap()
+    {
+        return this.arrayList.parallelStream().
+            map(i -> Math.sqrt(i)).
+            filter(d -> d > 100.0).
+            count();
+    }
+
+    @Benchmark
+    public long testSequenceMap()
+    {
+        return this.sequence.parallelStream().
+            map(i -> Math.sqrt(i)).
+            filter(d -> d > 100.0).
+            count();
+    }
+
+    @Benchmark
+    public List<Integer> testArrayListCollect()
+    {
+        return this.arrayList.parallelStream().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> testSequenceCollect()
+    {
+        return this.sequence.parallelStream().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,104 @@
+package com.seanpatrickmiller;
+
+import java.util.Collections;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.priorityqueue.PersistentPriorityQueue;
+import org.seanpatrickmiller.containers.priorityqueue.PriorityQueueFactory;
+
+// Each operation inserts a random element into a queue of steady size and
+// then removes the greatest one.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkPriorityQueue
+{
+    @Param({"1024", "65536"})
+    public int size;
+
+    private final Random rand;
+    private final Integer[] values;
+    private int index;
+
+    private PriorityQueue<Integer> priorityQueue;
+    private PriorityBlockingQueue<Integer> priorityBlockingQueue;
+    private PersistentPriorityQueue<Integer> persistentQueue;
+
+    public BenchmarkPriorityQueue()
+    {
+        this.rand = new Random(System.currentTimeMillis());
+        this.values = new Integer[4096];
+        this.index = 0;
+    }
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        for (int i = 0; i < this.values.length; ++i)
+        {
+            this.values[i] = rand.nextInt();
+        }
+
+        final Integer[] initial = new Integer[size];
+        for (int i = 0; i < size; ++i)
+        {
+            initial[i] = rand.nextInt();
+        }
+
+        this.priorityQueue =
+            new PriorityQueue<>(size + 1, Collections.<Integer>reverseOrder());
+        this.priorityBlockingQueue =
+            new PriorityBlockingQueue<>(size + 1, Collections.<Integer>reverseOrder());
+        for (final Integer x : initial)
+        {
+            this.priorityQueue.add(x);
+            this.priorityBlockingQueue.add(x);
+        }
+        this.persistentQueue =
+            PriorityQueueFactory.<Integer>natural().fromArray(initial);
+    }
+
+    private Integer nextValue()
+    {
+        this.index = (this.index + 1) & (this.values.length - 1);
+        return this.values[this.index];
+    }
+
+    @Benchmark
+    public Integer testPriorityQueue()
+    {
+        this.priorityQueue.add(nextValue());
+        return this.priorityQueue.poll();
+    }
+
+    @Benchmark
+    public Integer testPriorityBlockingQueue()
+    {
+        this.priorityBlockingQueue.add(nextValue());
+        return this.priorityBlockingQueue.poll();
+    }
+
+    @Benchmark
+    public Integer testPersistentPriorityQueue()
+    {
+        final PersistentPriorityQueue<Integer> queue =
+            this.persistentQueue.insert(nextValue());
+        this.persistentQueue = queue.extractMax();
+        return queue.findMax();
+    }
+}
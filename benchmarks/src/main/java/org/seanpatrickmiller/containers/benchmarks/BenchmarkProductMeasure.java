@@ -0,0 +1,96 @@
+package com.seanpatrickmiller;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
+import org.seanpatrickmiller.containers.fingertree.impl.Measured;
+import org.seanpatrickmiller.containers.util.Func;
+import org.seanpatrickmiller.containers.util.LongFunc;
+import org.seanpatrickmiller.containers.util.Monoid;
+import org.seanpatrickmiller.containers.util.Monoids;
+
+// Builds trees annotated with both a size and a maximum, either as a product
+// measurement or as a tuple of boxed values summed by a Curried monoid.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkProductMeasure
+{
+    private static final int SIZE = 65536;
+
+    private final Integer[] array;
+    private final Measured<long[], Integer> product;
+    private final Measured<Object[], Integer> tuple;
+
+    public BenchmarkProductMeasure()
+    {
+        this.array = new Integer[SIZE];
+        for (int i = 0; i < SIZE; ++i)
+        {
+            this.array[i] = (i * 40503) & (SIZE - 1);
+        }
+
+        this.product = Measured.product(true,
+            Measured.component(Monoids.LONG_SUM, new LongFunc<Integer>() {
+                @Override
+                public long call(final Integer i)
+                {
+                    return 1;
+                }
+            }),
+            Measured.component(Monoids.LONG_MAX, new LongFunc<Integer>() {
+                @Override
+                public long call(final Integer i)
+                {
+                    return i;
+                }
+            }));
+
+        this.tuple = new Measured<>(
+            new Monoid<>(new Func<Object[], Func<Object[], Object[]>>() {
+                @Override
+                public Func<Object[], Object[]> call(final Object[] a)
+                {
+                    return new Func<Object[], Object[]>() {
+                        @Override
+                        public Object[] call(final Object[] b)
+                        {
+                            return new Object[] {
+                                (Integer) a[0] + (Integer) b[0],
+                                Math.max((Integer) a[1], (Integer) b[1])
+                            };
+                        }
+                    };
+                }
+            }, new Object[] { 0, Integer.MIN_VALUE }),
+            new Func<Integer, Object[]>() {
+                @Override
+                public Object[] call(final Integer i)
+                {
+                    return new Object[] { 1, i };
+                }
+            },
+            true);
+    }
+
+    @Benchmark
+    public long[] testProductBuild()
+    {
+        return FingerTree.fromArray(this.product, this.array, 0, SIZE).measure();
+    }
+
+    @Benchmark
+    public Object[] testTupleBuild()
+    {
+        return FingerTree.fromArray(this.tuple, this.array, 0, SIZE).measure();
+    }
+}
@@ -29,6 +29,7 @@ public class BenchmarkPushBack
     private Vector<Integer> vector;
     private ConcurrentLinkedDeque<Integer> linkedDeque;
     private Sequence<Integer> sequence;
+    private Sequence<Integer> chunkedSequence;
 
     @Setup(Level.Iteration)
     public void setup()
@@ -37,6 +38,7 @@ public class BenchmarkPushBack
         this.vector = new Vector<>();
         this.linkedDeque = new ConcurrentLinkedDeque<>();
         this.sequence = new SequenceFactory().makeEmpty();
+        this.chunkedSequence = new SequenceFactory(32).makeEmpty();
     }
 
     @Benchmark
@@ -66,4 +68,11 @@ public class BenchmarkPushBack
         this.sequence = this.sequence.pushBack(1);
         blackhole.consume(this.sequence);
     }
+
+    @Benchmark
+    public void testChunkedSequence(final Blackhole blackhole)
+    {
+        this.chunkedSequence = this.chunkedSequence.pushBack(1);
+        blackhole.consume(this.chunkedSequence);
+    }
 }
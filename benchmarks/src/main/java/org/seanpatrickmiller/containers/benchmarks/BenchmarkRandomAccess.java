@@ -18,6 +18,9 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.seanpatrickmiller.containers.fingertree.Sequence;
 import org.seanpatrickmiller.containers.fingertree.SequenceFactory;
+import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
+import org.seanpatrickmiller.containers.fingertree.impl.MeasurementFactory;
+import org.seanpatrickmiller.containers.util.Func;
 
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
@@ -33,6 +36,7 @@ public class BenchmarkRandomAccess
     private ArrayList<Integer> arrayList;
     private Vector<Integer> vector;
     private Sequence<Integer> sequence;
+    private FingerTree<Integer, Integer> tree;
 
     public BenchmarkRandomAccess()
     {
@@ -53,6 +57,11 @@ public class BenchmarkRandomAccess
             this.vector.add(i);
             this.sequence = sequence.pushBack(i);
         }
+        this.tree = FingerTree.fromArray(
+            new MeasurementFactory().makeSequentialMeasurement(),
+            this.arrayList.toArray(new Integer[0]),
+            0,
+            1024);
     }
 
     @Setup(Level.Iteration)
@@ -92,6 +101,56 @@ public class BenchmarkRandomAccess
         return value;
     }
 
+    @Benchmark
+    public Integer testSequenceBySplit()
+    {
+        // How Sequence.at used to work.
+        final Integer value = this.sequence.drop(this.index).head();
+        incrementIndex();
+        return value;
+    }
+
+    @Benchmark
+    public Integer testLookupByAnnotation()
+    {
+        final int i = this.index;
+        final Integer value = this.tree.lookup(new Func<Integer, Boolean>() {
+            @Override
+            public Boolean call(final Integer measurement)
+            {
+                return i < measurement;
+            }
+        });
+        incrementIndex();
+        return value;
+    }
+
+    @Benchmark
+    public FingerTree.SplitPair<Integer, Integer> testSplitByAnnotation()
+    {
+        // Sums boxed annotations, as the sequence used to.
+        final int i = this.index;
+        final FingerTree.SplitPair<Integer, Integer> value =
+            this.tree.split(new Func<Integer, Boolean>() {
+                @Override
+                public Boolean call(final Integer measurement)
+                {
+                    return i < measurement;
+                }
+            });
+        incrementIndex();
+        return value;
+    }
+
+    @Benchmark
+    public FingerTree.SplitPair<Integer, Integer> testSplitBySize()
+    {
+        final FingerTree.SplitPair<Integer, Integer> value =
+            this.tree.splitAt(this.index);
+        incrementIndex();
+        return value;
+    }
+
     private void incrementIndex()
     {
         this.index = (this.index + 1) % this.indices.length;
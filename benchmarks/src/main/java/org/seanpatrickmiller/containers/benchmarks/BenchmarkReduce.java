@@ -0,0 +1,75 @@
+package com.seanpatrickmiller;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.fingertree.Sequence;
+import org.seanpatrickmiller.containers.fingertree.SequenceFactory;
+import org.seanpatrickmiller.containers.util.Functions;
+import org.seanpatrickmiller.containers.util.Identity;
+import org.seanpatrickmiller.containers.util.Monoids;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkReduce
+{
+    private static final int SIZE = 1 << 22;
+
+    @Param({"0", "64"})
+    public int chunkSize;
+
+    private final Identity<Integer> identity = new Identity<>();
+
+    private ArrayList<Integer> arrayList;
+    private Sequence<Integer> sequence;
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        final Integer[] array = new Integer[SIZE];
+        for (int i = 0; i < SIZE; ++i)
+        {
+            array[i] = i & 1023;
+        }
+        this.arrayList = new ArrayList<>(Arrays.asList(array));
+        this.sequence = new SequenceFactory<Integer>(chunkSize).fromArray(array);
+    }
+
+    @Benchmark
+    public Integer testArrayListParallelStream()
+    {
+        return this.arrayList.parallelStream().reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public Integer testSequenceFoldLeft()
+    {
+        return this.sequence.foldLeft(Functions.ADD, 0);
+    }
+
+    @Benchmark
+    public Integer testSequenceReduce()
+    {
+        return this.sequence.reduce(Monoids.SUM, this.identity);
+    }
+
+    @Benchmark
+    public Integer testSequenceParallelReduce()
+    {
+        return this.sequence.parallelReduce(Monoids.SUM, this.identity);
+    }
+}
@@ -0,0 +1,87 @@
+package com.seanpatrickmiller;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.rope.Rope;
+
+// Random edits on a 10 MB document. Each edit inserts a short string at one
+// random place and deletes as many chars at another, so the document keeps
+// its size across iterations.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkRope
+{
+    private static final int SIZE = 10 * 1024 * 1024;
+    private static final String EDIT = "lorem ipsum\ndolor";
+
+    private final Random rand;
+
+    private StringBuilder builder;
+    private Rope rope;
+
+    public BenchmarkRope()
+    {
+        this.rand = new Random(System.currentTimeMillis());
+    }
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        final StringBuilder text = new StringBuilder(SIZE);
+        while (text.length() < SIZE)
+        {
+            text.append((char) ('a' + rand.nextInt(26)));
+            if (rand.nextInt(64) == 0)
+            {
+                text.append('\n');
+            }
+        }
+        text.setLength(SIZE);
+
+        this.builder = new StringBuilder(text);
+        this.rope = Rope.of(text);
+    }
+
+    @Benchmark
+    public StringBuilder stringBuilderEdit()
+    {
+        final int at = rand.nextInt(SIZE);
+        this.builder.insert(at, EDIT);
+        final int from = rand.nextInt(SIZE);
+        return this.builder.delete(from, from + EDIT.length());
+    }
+
+    @Benchmark
+    public Rope ropeEdit()
+    {
+        final int at = rand.nextInt(SIZE);
+        final int from = rand.nextInt(SIZE);
+        this.rope = this.rope.insert(at, EDIT).delete(from, from + EDIT.length());
+        return this.rope;
+    }
+
+    @Benchmark
+    public char stringBuilderCharAt()
+    {
+        return this.builder.charAt(rand.nextInt(SIZE));
+    }
+
+    @Benchmark
+    public char ropeCharAt()
+    {
+        return this.rope.charAt(rand.nextInt(SIZE));
+    }
+}
@@ -0,0 +1,75 @@
+package com.seanpatrickmiller;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.fingertree.Sequence;
+import org.seanpatrickmiller.containers.fingertree.SequenceFactory;
+
+/**
+ * Slides a window across a large sequence, one step per invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkSlice
+{
+    private static final int SIZE = 1048576;
+
+    @Param({"16", "1024"})
+    private int window;
+
+    private Sequence<Integer> sequence;
+    private int from;
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        final Integer[] array = new Integer[SIZE];
+        for (int i = 0; i < SIZE; ++i)
+        {
+            array[i] = i;
+        }
+        this.sequence = new SequenceFactory<Integer>().fromArray(array);
+        this.from = 0;
+    }
+
+    private int nextFrom()
+    {
+        this.from = (this.from + 7919) % (SIZE - this.window);
+        return this.from;
+    }
+
+    @Benchmark
+    public Sequence<Integer> testDropTake()
+    {
+        return this.sequence.drop(nextFrom()).take(this.window);
+    }
+
+    @Benchmark
+    public Sequence<Integer> testSlice()
+    {
+        final int i = nextFrom();
+        return this.sequence.slice(i, i + this.window);
+    }
+
+    @Benchmark
+    public int testSubListEnds()
+    {
+        final int i = nextFrom();
+        final List<Integer> view = this.sequence.subList(i, i + this.window);
+        return view.get(0) + view.get(this.window - 1);
+    }
+}
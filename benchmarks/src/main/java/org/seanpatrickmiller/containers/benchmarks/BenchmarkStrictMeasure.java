@@ -0,0 +1,106 @@
+package com.seanpatrickmiller;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.fingertree.impl.Empty;
+import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
+import org.seanpatrickmiller.containers.fingertree.impl.MeasurementFactory;
+import org.seanpatrickmiller.containers.fingertree.impl.Measured;
+import org.seanpatrickmiller.containers.util.Func;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkStrictMeasure
+{
+    private static final int SIZE = 65536;
+
+    @Param({"lazy", "strict"})
+    private String mode;
+
+    private Measured<Integer, Integer> measured;
+    private FingerTree<Integer, Integer> tree;
+    private FingerTree<Integer, Integer> growing;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        final MeasurementFactory factory = new MeasurementFactory();
+        this.measured = "strict".equals(this.mode) ?
+            factory.makeStrictSequentialMeasurement() :
+            factory.makeSequentialMeasurement();
+
+        final Integer[] array = new Integer[SIZE];
+        for (int i = 0; i < SIZE; ++i)
+        {
+            array[i] = i;
+        }
+        this.tree = FingerTree.fromArray(this.measured, array, 0, SIZE);
+        this.index = 0;
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration()
+    {
+        this.growing = new Empty<>(this.measured);
+    }
+
+    // Step through the tree by a stride coprime to its size.
+    private int nextIndex()
+    {
+        this.index = (this.index + 40503) & (SIZE - 1);
+        return this.index;
+    }
+
+    @Benchmark
+    public FingerTree<Integer, Integer> testPushBack()
+    {
+        this.growing = this.growing.pushBack(1);
+        return this.growing;
+    }
+
+    @Benchmark
+    public FingerTree.SplitPair<Integer, Integer> testSplit()
+    {
+        final int i = nextIndex();
+        return this.tree.split(new Func<Integer, Boolean>() {
+            @Override
+            public Boolean call(final Integer measurement)
+            {
+                return i < measurement;
+            }
+        });
+    }
+
+    @Benchmark
+    public Integer testLookup()
+    {
+        final int i = nextIndex();
+        return this.tree.lookup(new Func<Integer, Boolean>() {
+            @Override
+            public Boolean call(final Integer measurement)
+            {
+                return i < measurement;
+            }
+        });
+    }
+
+    @Benchmark
+    public Integer testAt()
+    {
+        return this.tree.at(nextIndex());
+    }
+}
@@ -0,0 +1,93 @@
+package com.seanpatrickmiller;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seanpatrickmiller.containers.fingertree.Sequence;
+import org.seanpatrickmiller.containers.fingertree.SequenceFactory;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations=10)
+@State(Scope.Benchmark)
+public class BenchmarkUpdate
+{
+    private static final int SIZE = 65536;
+
+    private final Random rand;
+    private final int[] indices;
+    private int index;
+
+    private ArrayList<Integer> arrayList;
+    private Sequence<Integer> sequence;
+
+    public BenchmarkUpdate()
+    {
+        this.rand = new Random(System.currentTimeMillis());
+        this.indices = new int[256];
+        this.index = 0;
+    }
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        final Integer[] array = new Integer[SIZE];
+        for (int i = 0; i < SIZE; ++i)
+        {
+            array[i] = i;
+        }
+        this.arrayList = new ArrayList<>(Arrays.asList(array));
+        this.sequence = new SequenceFactory<Integer>().fromArray(array);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration()
+    {
+        // Use different indices for each iteration.
+        Arrays.setAll(this.indices, new IntUnaryOperator() {
+            @Override
+            public int applyAsInt(final int operand)
+            {
+                return rand.nextInt(SIZE);
+            }
+        });
+    }
+
+    private int nextIndex()
+    {
+        this.index = (this.index + 1) & 255;
+        return this.indices[this.index];
+    }
+
+    @Benchmark
+    public Integer testArrayListSet()
+    {
+        return this.arrayList.set(nextIndex(), -1);
+    }
+
+    @Benchmark
+    public Sequence<Integer> testSequenceUpdate()
+    {
+        return this.sequence.update(nextIndex(), -1);
+    }
+
+    @Benchmark
+    public Sequence<Integer> testSequenceDeleteInsert()
+    {
+        final int i = nextIndex();
+        return this.sequence.delete(i).insert(i, -1);
+    }
+}
@@ -0,0 +1,96 @@
+package org.seanpatrickmiller.containers.deque;
+
+import java.util.Collection;
+import org.seanpatrickmiller.containers.fingertree.impl.Empty;
+import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
+import org.seanpatrickmiller.containers.fingertree.impl.Measured;
+import org.seanpatrickmiller.containers.util.Func;
+import org.seanpatrickmiller.containers.util.Monoid2;
+import org.seanpatrickmiller.containers.util.Varargs;
+
+/**
+ * Factory for creating deques backed by
+ * {@link org.seanpatrickmiller.containers.fingertree.impl.FingerTree}.
+ */
+public final class DequeFactory<A>
+{
+    // A deque only ever works at its ends, and the tree tracks sizes by
+    // itself, so nodes need no annotation. Every node measures as null, which
+    // costs nothing to sum as the node is built.
+    private static final Monoid2<Void> UNIT = new Monoid2<Void>() {
+        @Override
+        public Void sum(final Void a, final Void b) {
+            return null;
+        }
+
+        @Override
+        public Void zero() {
+            return null;
+        }
+    };
+
+    // Deque measurement algorithm.
+    private final Measured<Void, A> measured;
+
+    // The empty deque.
+    private final PersistentDeque<A> nil;
+
+    /**
+     * Create a new factory instance.
+     */
+    public DequeFactory()
+    {
+        this.measured = new Measured<>(UNIT, new Func<A, Void>() {
+            @Override
+            public Void call(final A a) {
+                return null;
+            }
+        }, true);
+
+        this.nil = new PersistentDeque<A>(new Empty<>(this.measured));
+    }
+
+    /**
+     * Create an empty deque.
+     * @return A new deque with zero elements.
+     */
+    public PersistentDeque<A> makeEmpty()
+    {
+        return this.nil;
+    }
+
+    /**
+     * Create a deque from some elements.
+     * @param first The element at the front.
+     * @param rest The elements after it, in order.
+     * @return A new deque containing the given elements.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final PersistentDeque<A> make(final A first, final A... rest)
+    {
+        return fromArray(Varargs.prepend(first, rest));
+    }
+
+    /**
+     * Create a deque from the contents of an array, in linear time.
+     * @param array Some elements, front first.
+     * @return A new deque containing the given elements.
+     */
+    public PersistentDeque<A> fromArray(final A[] array)
+    {
+        return new PersistentDeque<A>(
+            FingerTree.fromArray(this.measured, array, 0, array.length));
+    }
+
+    /**
+     * Create a deque from the contents of a collection, in linear time.
+     * @param collection Some elements, front first.
+     * @return A new deque containing the given elements.
+     */
+    @SuppressWarnings("unchecked")
+    public PersistentDeque<A> fromCollection(final Collection<? extends A> collection)
+    {
+        return fromArray((A[]) collection.toArray());
+    }
+}
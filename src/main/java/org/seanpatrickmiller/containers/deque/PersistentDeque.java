@@ -0,0 +1,179 @@
+package org.seanpatrickmiller.containers.deque;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
+
+/**
+ * Persistent double-ended queue.
+ *
+ * <p>The elements sit in a finger tree, whose ends are always within a few
+ * steps of its root, so pushing or popping at either end costs O(1)
+ * amortized. Popping hands back the element and the rest of the deque
+ * together, without building an intermediate view of the tree. The
+ * time-complexity of each operation (where <i>n</i> is the number of elements
+ * in the deque) is as follows:</p>
+ *
+ * <table style="margin-left: 2em">
+ *   <tr><td>push-front, push-back</td><td>O(1) amortized</td></tr>
+ *   <tr><td>peek-first, peek-last</td><td>O(1)</td></tr>
+ *   <tr><td>pop-front, pop-back</td><td>O(1) amortized</td></tr>
+ *   <tr><td>append</td><td>O(log<sub>2</sub>(min(<i>n</i><sub>1</sub>,
+ *       <i>n</i><sub>2</sub>)))</td></tr>
+ * </table>
+ *
+ * <p>Popping returns the rest of the deque rather than changing this one, so
+ * a deque can be handed to other threads as it is.</p>
+ */
+public final class PersistentDeque<A> implements java.lang.Iterable<A>
+{
+    // This deque's actual representation.
+    private final FingerTree<Void, A> tree;
+
+    PersistentDeque(final FingerTree<Void, A> tree)
+    {
+        this.tree = tree;
+    }
+
+    /**
+     * An element popped off one end of a deque, and what is left.
+     */
+    public static final class Pop<A>
+    {
+        /**
+         * The element popped.
+         */
+        public final A element;
+
+        /**
+         * The deque without it.
+         */
+        public final PersistentDeque<A> rest;
+
+        Pop(final A element, final PersistentDeque<A> rest)
+        {
+            this.element = element;
+            this.rest = rest;
+        }
+    }
+
+    private void checkNotEmpty(final String method)
+    {
+        if (this.tree.isEmpty())
+        {
+            throw new NoSuchElementException(
+                "PersistentDeque." + method + "(): empty deque");
+        }
+    }
+
+    /**
+     * Is this deque empty?
+     * @return true if this deque is empty; otherwise, false.
+     */
+    public boolean isEmpty()
+    {
+        return this.tree.isEmpty();
+    }
+
+    /**
+     * Get this deque's size.
+     * @return This deque's size.
+     */
+    public int size()
+    {
+        return this.tree.size();
+    }
+
+    /**
+     * Push an element onto the front of this deque.
+     * @param a The element to push.
+     * @return A new deque with the given element at the front.
+     */
+    public PersistentDeque<A> pushFront(final A a)
+    {
+        return new PersistentDeque<A>(this.tree.pushFront(a));
+    }
+
+    /**
+     * Push an element onto the back of this deque.
+     * @param a The element to push.
+     * @return A new deque with the given element at the back.
+     */
+    public PersistentDeque<A> pushBack(final A a)
+    {
+        return new PersistentDeque<A>(this.tree.pushBack(a));
+    }
+
+    /**
+     * Get the element at the front of this deque.
+     * @return The first element.
+     * @throws NoSuchElementException if this deque is empty.
+     */
+    public A peekFirst()
+    {
+        checkNotEmpty("peekFirst");
+        return this.tree.head();
+    }
+
+    /**
+     * Get the element at the back of this deque.
+     * @return The last element.
+     * @throws NoSuchElementException if this deque is empty.
+     */
+    public A peekLast()
+    {
+        checkNotEmpty("peekLast");
+        return this.tree.rhead();
+    }
+
+    /**
+     * Pop the element off the front of this deque.
+     * @return The first element and a new deque holding the others.
+     * @throws NoSuchElementException if this deque is empty.
+     */
+    public Pop<A> popFront()
+    {
+        checkNotEmpty("popFront");
+        return new Pop<A>(this.tree.head(), new PersistentDeque<A>(this.tree.tail()));
+    }
+
+    /**
+     * Pop the element off the back of this deque.
+     * @return The last element and a new deque holding the others.
+     * @throws NoSuchElementException if this deque is empty.
+     */
+    public Pop<A> popBack()
+    {
+        checkNotEmpty("popBack");
+        return new Pop<A>(this.tree.rhead(), new PersistentDeque<A>(this.tree.rtail()));
+    }
+
+    /**
+     * Append another deque to the back of this one.
+     * @param that Some other deque.
+     * @return A new deque holding this deque's elements and then that one's.
+     */
+    public PersistentDeque<A> append(final PersistentDeque<A> that)
+    {
+        return new PersistentDeque<A>(this.tree.append(that.tree));
+    }
+
+    /**
+     * Iterates over the elements of this deque from front to back.
+     * @return An iterator over the elements of this deque.
+     */
+    @Override
+    public Iterator<A> iterator()
+    {
+        return this.tree.iterator();
+    }
+
+    /**
+     * Iterates over the elements of this deque from back to front.
+     * @return An iterator over the elements of this deque, in reverse.
+     */
+    public Iterator<A> descendingIterator()
+    {
+        return this.tree.descendingIterator();
+    }
+}
@@ -0,0 +1,215 @@
+package org.seanpatrickmiller.containers.fingertree;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Thread-safe holder for a sequence that many threads add to.
+ *
+ * <p>Sharing a sequence through a compare-and-swap loop scales badly: every
+ * writer whose swap fails throws away the version it built and starts again.
+ * A concurrent sequence uses flat combining instead. A writer publishes its
+ * edit on a lock-free list of pending edits, and whichever writer then wins
+ * the combining lock takes every edit published so far and applies them all
+ * in one batch, gathering runs of pushed elements into a transient sequence
+ * so they are built into the tree in linear time. Other writers wait for
+ * their edit to be applied by someone, so contention turns into bigger
+ * batches rather than wasted work.</p>
+ *
+ * <p>Each writer's edits take effect in the order it made them, and each edit
+ * has taken effect by the time its method returns. Edits from different
+ * threads interleave in no particular order. Readers never wait: a
+ * {@link #snapshot()} is a single volatile read, and the sequence it returns
+ * never changes.</p>
+ *
+ * <p>If applying a batch throws, none of its edits take effect, and every
+ * writer whose edit was in the batch gets the exception.</p>
+ */
+public final class ConcurrentSequence<A>
+{
+    // An edit waiting to be applied. Pushes carry an element; appends carry
+    // a sequence. If the batch holding the edit failed, failure is what it
+    // threw; it is written before done, so reading done makes it visible.
+    private static final class Edit<A>
+    {
+        final A element;
+        final Sequence<A> other;
+        Edit<A> next;
+        java.lang.Throwable failure;
+        volatile boolean done;
+
+        Edit(final A element, final Sequence<A> other)
+        {
+            this.element = element;
+            this.other = other;
+        }
+    }
+
+    // The latest version.
+    private volatile Sequence<A> current;
+
+    // The edits published since the last batch, newest first.
+    private final AtomicReference<Edit<A>> pending;
+
+    // Held by the writer applying a batch.
+    private final AtomicBoolean combining;
+
+    /**
+     * Create a new instance.
+     * @param initial The sequence to start from.
+     */
+    public ConcurrentSequence(final Sequence<A> initial)
+    {
+        this.current = initial;
+        this.pending = new AtomicReference<>();
+        this.combining = new AtomicBoolean();
+    }
+
+    /**
+     * Get the latest version of the sequence, without waiting.
+     * @return An immutable sequence holding every edit that had completed
+     * when this was called.
+     */
+    public Sequence<A> snapshot()
+    {
+        return this.current;
+    }
+
+    /**
+     * Get the size of the latest version of the sequence.
+     * @return The latest version's size.
+     */
+    public int size()
+    {
+        return this.current.size();
+    }
+
+    /**
+     * Push an element onto the back of the sequence.
+     * @param a The element to push.
+     */
+    public void pushBack(final A a)
+    {
+        submit(new Edit<A>(a, null));
+    }
+
+    /**
+     * Append another sequence to the back of the sequence.
+     * @param other The sequence to append.
+     * @throws NullPointerException if the other sequence is null.
+     */
+    public void append(final Sequence<A> other)
+    {
+        if (null == other)
+        {
+            throw new java.lang.NullPointerException(
+                "ConcurrentSequence.append(): null sequence");
+        }
+
+        submit(new Edit<A>(null, other));
+    }
+
+    // Publish an edit and wait until it has been applied, applying it and
+    // everyone else's along with it if no one else is.
+    private void submit(final Edit<A> edit)
+    {
+        Edit<A> head;
+        do
+        {
+            head = this.pending.get();
+            edit.next = head;
+        }
+        while (!this.pending.compareAndSet(head, edit));
+
+        while (!edit.done)
+        {
+            if (this.combining.compareAndSet(false, true))
+            {
+                try
+                {
+                    combine();
+                }
+                finally
+                {
+                    this.combining.set(false);
+                }
+            }
+            else
+            {
+                Thread.yield();
+            }
+        }
+
+        final java.lang.Throwable failure = edit.failure;
+        if (failure instanceof java.lang.RuntimeException)
+        {
+            throw (java.lang.RuntimeException) failure;
+        }
+        else if (failure instanceof java.lang.Error)
+        {
+            throw (java.lang.Error) failure;
+        }
+        else if (null != failure)
+        {
+            throw new java.lang.IllegalStateException(
+                "ConcurrentSequence: edit failed", failure);
+        }
+    }
+
+    // Apply every published edit in one batch. The current version is only
+    // replaced once the whole batch has been applied.
+    private void combine()
+    {
+        // Take the edits and put them back in the order they were published.
+        Edit<A> batch = null;
+        for (Edit<A> e = this.pending.getAndSet(null); null != e; )
+        {
+            final Edit<A> next = e.next;
+            e.next = batch;
+            batch = e;
+            e = next;
+        }
+
+        java.lang.Throwable failure = null;
+        try
+        {
+            Sequence<A> result = this.current;
+            TransientSequence<A> pushes = null;
+            for (Edit<A> e = batch; null != e; e = e.next)
+            {
+                if (null == e.other)
+                {
+                    if (null == pushes)
+                    {
+                        pushes = result.asTransient();
+                    }
+                    pushes.pushBack(e.element);
+                }
+                else
+                {
+                    if (null != pushes)
+                    {
+                        result = pushes.persistent();
+                        pushes = null;
+                    }
+                    result = result.append(e.other);
+                }
+            }
+
+            this.current = (null == pushes) ? result : pushes.persistent();
+        }
+        catch (final java.lang.Throwable t)
+        {
+            failure = t;
+        }
+
+        for (Edit<A> e = batch; null != e; )
+        {
+            // Read the link before releasing the edit's writer.
+            final Edit<A> next = e.next;
+            e.failure = failure;
+            e.done = true;
+            e = next;
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package org.seanpatrickmiller.containers.fingertree;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import org.seanpatrickmiller.containers.fingertree.impl.Empty;
+import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
+import org.seanpatrickmiller.containers.fingertree.impl.Measured;
+import org.seanpatrickmiller.containers.util.Func;
+
+/**
+ * Sorted set.
+ *
+ * <p>The elements sit in a finger tree in ascending order, and each node is
+ * annotated with the last element beneath it, as in Hinze &amp; Paterson's
+ * ordered sequences. Since the running annotation is then the greatest
+ * element so far, splitting where it first reaches some key finds that key's
+ * position in O(log<sub>2</sub>(<i>n</i>)) time, and every operation here is
+ * built from such splits and from appends. Elements that compare equal count
+ * as the same element, so a map is a set of entries compared by key, and
+ * {@link #find} retrieves an entry by a probe with the same key. Elements
+ * must not be null.</p>
+ *
+ * <p>The set operations alternate between the two inputs, splitting off each
+ * run of elements that lies between two consecutive elements of the other
+ * and moving the run across whole, so merging <i>m</i> elements into
+ * <i>n</i> &gt;= <i>m</i> takes O(<i>m</i> log<sub>2</sub>(<i>n</i> /
+ * <i>m</i>)) time rather than the O(<i>n</i>) that copying would.</p>
+ */
+public final class OrderedSequence<A> implements java.lang.Iterable<A>
+{
+    // This set's actual representation.
+    private final FingerTree<A, A> tree;
+
+    // The measurement shared by every set from the same factory.
+    private final Measured<A, A> measured;
+
+    // The order of the elements.
+    private final Comparator<? super A> comparator;
+
+    OrderedSequence(
+        final FingerTree<A, A> tree,
+        final Measured<A, A> measured,
+        final Comparator<? super A> comparator)
+    {
+        this.tree = tree;
+        this.measured = measured;
+        this.comparator = comparator;
+    }
+
+    private OrderedSequence<A> with(final FingerTree<A, A> tree)
+    {
+        return new OrderedSequence<A>(tree, this.measured, this.comparator);
+    }
+
+    /**
+     * A set split in two around some key.
+     */
+    public static final class Partition<A>
+    {
+        /**
+         * The elements less than the key.
+         */
+        public final OrderedSequence<A> left;
+
+        /**
+         * The elements greater than or equal to the key.
+         */
+        public final OrderedSequence<A> right;
+
+        Partition(final OrderedSequence<A> left, final OrderedSequence<A> right)
+        {
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    // Split a tree into the elements less than the key and the rest.
+    private FingerTree.SplitPair<A, A> split(final FingerTree<A, A> t, final A key)
+    {
+        return t.split(new Func<A, Boolean>() {
+            @Override
+            public Boolean call(final A last) {
+                return null != last && comparator.compare(last, key) >= 0;
+            }
+        });
+    }
+
+    private boolean same(final A a, final A b)
+    {
+        return 0 == comparator.compare(a, b);
+    }
+
+    /**
+     * Is this set empty?
+     * @return true if this set is empty; otherwise, false.
+     */
+    public boolean isEmpty()
+    {
+        return this.tree.isEmpty();
+    }
+
+    /**
+     * Get this set's size.
+     * @return This set's size.
+     */
+    public int size()
+    {
+        return this.tree.size();
+    }
+
+    /**
+     * Get the order of the elements in this set.
+     * @return The comparator.
+     */
+    public Comparator<? super A> comparator()
+    {
+        return this.comparator;
+    }
+
+    /**
+     * Get the least element.
+     * @return The least element.
+     */
+    public A first()
+    {
+        return this.tree.head();
+    }
+
+    /**
+     * Get the greatest element.
+     * @return The greatest element.
+     */
+    public A last()
+    {
+        return this.tree.rhead();
+    }
+
+    /**
+     * Find the element equal to some key, without allocating.
+     * @param key A key, which needs only enough of an element for the
+     * comparator to place it.
+     * @return The element in this set that compares equal to the key, or null
+     * if there is none.
+     */
+    public A find(final A key)
+    {
+        if (this.tree.isEmpty() || comparator.compare(this.tree.measure(), key) < 0)
+        {
+            return null;
+        }
+
+        final A a = this.tree.lookup(new Func<A, Boolean>() {
+            @Override
+            public Boolean call(final A last) {
+                return null != last && comparator.compare(last, key) >= 0;
+            }
+        });
+        return same(a, key) ? a : null;
+    }
+
+    /**
+     * Does this set contain an element equal to some key?
+     * @param key Some key.
+     * @return true if this set contains such an element; otherwise, false.
+     */
+    public boolean contains(final A key)
+    {
+        return null != find(key);
+    }
+
+    /**
+     * Insert an element, replacing any element equal to it.
+     * @param a The element to insert.
+     * @return A new set containing the given element.
+     * @throws NullPointerException if the element is null.
+     */
+    public OrderedSequence<A> insert(final A a)
+    {
+        if (null == a)
+        {
+            throw new java.lang.NullPointerException(
+                "OrderedSequence.insert(): null element");
+        }
+
+        final FingerTree.SplitPair<A, A> splat = split(this.tree, a);
+        final FingerTree<A, A> rest =
+            (!splat.right.isEmpty() && same(splat.right.head(), a)) ?
+                splat.right.tail() :
+                splat.right;
+        return with(splat.left.pushBack(a).append(rest));
+    }
+
+    /**
+     * Delete the element equal to some key, if there is one.
+     * @param key Some key.
+     * @return A new set without such an element.
+     */
+    public OrderedSequence<A> delete(final A key)
+    {
+        final FingerTree.SplitPair<A, A> splat = split(this.tree, key);
+        if (splat.right.isEmpty() || !same(splat.right.head(), key))
+        {
+            return this;
+        }
+
+        return with(splat.left.append(splat.right.tail()));
+    }
+
+    /**
+     * Split this set around some key.
+     * @param key Some key.
+     * @return The elements less than the key and the rest.
+     */
+    public Partition<A> partition(final A key)
+    {
+        final FingerTree.SplitPair<A, A> splat = split(this.tree, key);
+        return new Partition<A>(with(splat.left), with(splat.right));
+    }
+
+    /**
+     * Get the elements in a range of keys.
+     * @param from The least key in the range.
+     * @param to The key after the range.
+     * @return A new set of the elements at least from and less than to.
+     */
+    public OrderedSequence<A> rangeQuery(final A from, final A to)
+    {
+        if (comparator.compare(from, to) >= 0)
+        {
+            return with(new Empty<A, A>(this.measured));
+        }
+
+        return with(split(split(this.tree, from).right, to).left);
+    }
+
+    // Complain if two sets might order their elements differently.
+    private void checkCompatible(final OrderedSequence<A> that, final String method)
+    {
+        if (this.measured != that.measured)
+        {
+            throw new java.lang.IllegalArgumentException(
+                "OrderedSequence." + method + "(): sets from different factories");
+        }
+    }
+
+    /**
+     * Union.
+     * @param that A set from the same factory as this one.
+     * @return A new set of the elements in either set. Where both sets
+     * contain equal elements, the result holds the one from this set.
+     * @throws IllegalArgumentException if the sets come from different
+     * factories.
+     */
+    public OrderedSequence<A> union(final OrderedSequence<A> that)
+    {
+        checkCompatible(that, "union");
+
+        // Each pass moves the run of a that precedes the head of b, then the
+        // head of b, and then continues with the roles swapped.
+        FingerTree<A, A> result = new Empty<A, A>(this.measured);
+        FingerTree<A, A> a = this.tree;
+        FingerTree<A, A> b = that.tree;
+        boolean aIsThis = true;
+        while (!b.isEmpty())
+        {
+            A x = b.head();
+            final FingerTree.SplitPair<A, A> splat = split(a, x);
+            FingerTree<A, A> rest = splat.right;
+            if (!rest.isEmpty() && same(rest.head(), x))
+            {
+                if (aIsThis)
+                {
+                    x = rest.head();
+                }
+                rest = rest.tail();
+            }
+
+            result = result.append(splat.left).pushBack(x);
+            a = b.tail();
+            b = rest;
+            aIsThis = !aIsThis;
+        }
+
+        return with(result.append(a));
+    }
+
+    /**
+     * Intersection.
+     * @param that A set from the same factory as this one.
+     * @return A new set of the elements in both sets, as this set holds them.
+     * @throws IllegalArgumentException if the sets come from different
+     * factories.
+     */
+    public OrderedSequence<A> intersection(final OrderedSequence<A> that)
+    {
+        checkCompatible(that, "intersection");
+
+        // Each pass drops the run of a that precedes the head of b, keeps the
+        // head of b if a has it too, and then swaps the roles.
+        FingerTree<A, A> result = new Empty<A, A>(this.measured);
+        FingerTree<A, A> a = this.tree;
+        FingerTree<A, A> b = that.tree;
+        boolean aIsThis = true;
+        while (!a.isEmpty() && !b.isEmpty())
+        {
+            final A x = b.head();
+            FingerTree<A, A> rest = split(a, x).right;
+            if (!rest.isEmpty() && same(rest.head(), x))
+            {
+                result = result.pushBack(aIsThis ? rest.head() : x);
+                rest = rest.tail();
+            }
+
+            a = b.tail();
+            b = rest;
+            aIsThis = !aIsThis;
+        }
+
+        return with(result);
+    }
+
+    /**
+     * Difference.
+     * @param that A set from the same factory as this one.
+     * @return A new set of the elements in this set but not in that one.
+     * @throws IllegalArgumentException if the sets come from different
+     * factories.
+     */
+    public OrderedSequence<A> difference(final OrderedSequence<A> that)
+    {
+        checkCompatible(that, "difference");
+
+        // Each pass keeps the run of a that precedes the head of b, drops the
+        // head of a if it matches, and then skips the run of b that precedes
+        // the new head of a.
+        FingerTree<A, A> result = new Empty<A, A>(this.measured);
+        FingerTree<A, A> a = this.tree;
+        FingerTree<A, A> b = that.tree;
+        while (!a.isEmpty() && !b.isEmpty())
+        {
+            final A x = b.head();
+            final FingerTree.SplitPair<A, A> splat = split(a, x);
+            result = result.append(splat.left);
+            a = splat.right;
+            if (!a.isEmpty() && same(a.head(), x))
+            {
+                a = a.tail();
+            }
+            if (a.isEmpty())
+            {
+                break;
+            }
+
+            b = split(b.tail(), a.head()).right;
+        }
+
+        return with(result.append(a));
+    }
+
+    /**
+     * Iterates over the elements of this set in ascending order.
+     * @return An iterator over the elements of this set.
+     */
+    @Override
+    public Iterator<A> iterator()
+    {
+        return this.tree.iterator();
+    }
+
+    @Override
+    public boolean equals(final java.lang.Object o)
+    {
+        if (!(o instanceof OrderedSequence))
+        {
+            return false;
+        }
+
+        if (this == o)
+        {
+            return true;
+        }
+
+        final OrderedSequence<?> other = (OrderedSequence<?>) o;
+        return this.tree.elementsEqual(other.tree);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = 1;
+        for (final A a : this.tree)
+        {
+            result = 31 * result + java.util.Objects.hashCode(a);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,148 @@
+package org.seanpatrickmiller.containers.fingertree;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import org.seanpatrickmiller.containers.fingertree.impl.Empty;
+import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
+import org.seanpatrickmiller.containers.fingertree.impl.Measured;
+import org.seanpatrickmiller.containers.util.Identity;
+import org.seanpatrickmiller.containers.util.Monoid2;
+import org.seanpatrickmiller.containers.util.Varargs;
+
+/**
+ * Factory for creating sorted sets backed by
+ * {@link org.seanpatrickmiller.containers.fingertree.impl.FingerTree}.
+ */
+public final class OrderedSequenceFactory<A>
+{
+    // Annotates each node with the last element beneath it. The empty tree
+    // measures as null, which every element overrides.
+    private static final Monoid2<Object> LAST = new Monoid2<Object>() {
+        @Override
+        public Object sum(final Object a, final Object b) {
+            return null == b ? a : b;
+        }
+
+        @Override
+        public Object zero() {
+            return null;
+        }
+    };
+
+    // The order of the elements.
+    private final Comparator<? super A> comparator;
+
+    // Set measurement algorithm. Taking the last element is cheaper than
+    // deferring it, so nodes take it as they are built.
+    private final Measured<A, A> measured;
+
+    // The empty set.
+    private final OrderedSequence<A> nil;
+
+    /**
+     * Create a new factory instance.
+     * @param comparator The order of the elements, which must not be null.
+     */
+    @SuppressWarnings("unchecked")
+    public OrderedSequenceFactory(final Comparator<? super A> comparator)
+    {
+        this.comparator = comparator;
+        this.measured = new Measured<>(
+            (Monoid2<A>) (Monoid2<?>) LAST, new Identity<A>(), true);
+        this.nil = new OrderedSequence<>(
+            new Empty<>(this.measured), this.measured, comparator);
+    }
+
+    /**
+     * Create a new factory instance for elements in their natural order.
+     * @return A new factory.
+     */
+    public static <A extends Comparable<? super A>> OrderedSequenceFactory<A> natural()
+    {
+        return new OrderedSequenceFactory<A>(new Comparator<A>() {
+            @Override
+            public int compare(final A a, final A b)
+            {
+                return a.compareTo(b);
+            }
+        });
+    }
+
+    /**
+     * Create an empty set.
+     * @return A new set with zero elements.
+     */
+    public OrderedSequence<A> makeEmpty()
+    {
+        return this.nil;
+    }
+
+    /**
+     * Create a set from some elements.
+     * @param first Some element.
+     * @param rest More elements.
+     * @return A new set containing the given elements.
+     * @throws NullPointerException if any element is null.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final OrderedSequence<A> make(final A first, final A... rest)
+    {
+        return fromArray(Varargs.prepend(first, rest));
+    }
+
+    /**
+     * Create a set from the contents of an array.
+     * This sorts a copy of the array and builds the set from it in linear
+     * time, which is considerably cheaper than inserting each element.
+     * @param array Some elements, in any order. Of any that compare equal,
+     * the set keeps the last.
+     * @return A new set containing the given elements.
+     * @throws NullPointerException if any element is null.
+     */
+    public OrderedSequence<A> fromArray(final A[] array)
+    {
+        // Null measures as the empty set, so even a comparator that orders
+        // nulls must not let one in.
+        for (final A a : array)
+        {
+            if (null == a)
+            {
+                throw new java.lang.NullPointerException(
+                    "OrderedSequenceFactory.fromArray(): null element");
+            }
+        }
+
+        final A[] sorted = array.clone();
+        Arrays.sort(sorted, this.comparator);
+
+        // Squeeze out duplicates, which the stable sort left in array order.
+        int n = 0;
+        for (int i = 0; i < sorted.length; ++i)
+        {
+            if (n > 0 && 0 == this.comparator.compare(sorted[n - 1], sorted[i]))
+            {
+                --n;
+            }
+            sorted[n++] = sorted[i];
+        }
+
+        return new OrderedSequence<A>(
+            FingerTree.fromArray(this.measured, sorted, 0, n),
+            this.measured,
+            this.comparator);
+    }
+
+    /**
+     * Create a set from the contents of a collection.
+     * @param collection Some elements.
+     * @return A new set containing the given elements.
+     * @throws NullPointerException if any element is null.
+     */
+    @SuppressWarnings("unchecked")
+    public OrderedSequence<A> fromCollection(final Collection<? extends A> collection)
+    {
+        return fromArray((A[]) collection.toArray());
+    }
+}
@@ -1,15 +1,26 @@
 package org.seanpatrickmiller.containers.fingertree;
 
-import com.google.common.base.Objects;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.seanpatrickmiller.containers.fingertree.impl.Empty;
 import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
 import org.seanpatrickmiller.containers.fingertree.impl.Measured;
 import org.seanpatrickmiller.containers.fingertree.impl.Single;
-import org.seanpatrickmiller.containers.fingertree.impl.View;
 import org.seanpatrickmiller.containers.util.Func;
 import org.seanpatrickmiller.containers.util.Identity;
+import org.seanpatrickmiller.containers.util.Monoid;
+import org.seanpatrickmiller.containers.util.Monoid2;
 import org.seanpatrickmiller.containers.util.Monoids;
 
 /**
@@ -18,13 +29,13 @@ import org.seanpatrickmiller.containers.util.Monoids;
 public final class Sequence<A> implements java.lang.Iterable<A>
 {
     // This sequence's actual representation.
-    private final FingerTree<java.lang.Integer, A> tree;
+    private final FingerTree<java.lang.Long, A> tree;
 
     // This sequence's element type's identity function.
     private final Identity<A> identity;
 
     // Create sequence from tree with identity.
-    Sequence(final FingerTree<java.lang.Integer, A> tree,
+    Sequence(final FingerTree<java.lang.Long, A> tree,
         final Identity<A> identity)
     {
         this.tree = tree;
@@ -32,35 +43,17 @@ public final class Sequence<A> implements java.lang.Iterable<A>
     }
 
     // Create sequence from tree using state from existing sequence.
-    Sequence(final FingerTree<java.lang.Integer, A> tree, final Sequence seq)
+    Sequence(final FingerTree<java.lang.Long, A> tree, final Sequence seq)
     {
         this.tree = tree;
         this.identity = seq.identity;
     }
 
-    // Index function.
-    static final class Index
-        implements Func<java.lang.Integer, java.lang.Boolean>
+    // Low-level split operation. This counts elements using the sizes cached
+    // in the tree rather than by summing boxed annotations.
+    FingerTree.SplitPair<java.lang.Long, A> split(final int index)
     {
-        private final Integer index;
-
-        Index(final Integer index)
-        {
-            this.index = index;
-        }
-
-        @Override
-        public Boolean call(final Integer measurement)
-        {
-            return this.index < measurement;
-        }
-    }
-
-    // Low-level split operation.
-    FingerTree.SplitPair<java.lang.Integer, A> split(final int index)
-    {
-        final Index f = new Index(index);
-        return this.tree.split(f);
+        return this.tree.splitAt(index);
     }
 
     /**
@@ -106,10 +99,39 @@ public final class Sequence<A> implements java.lang.Iterable<A>
         return this.tree.iterator();
     }
 
+    /**
+     * Iterate over this sequence from back to front.
+     * @return An iterator that yields the last element first.
+     */
+    public Iterator<A> descendingIterator()
+    {
+        return this.tree.descendingIterator();
+    }
+
     @Override
     public Spliterator<A> spliterator()
     {
-        return new SequenceSpliterator<A>(this.tree);
+        return this.tree.spliterator();
+    }
+
+    /**
+     * Stream the elements of this sequence in order.
+     * @return A sequential stream over this sequence.
+     */
+    public Stream<A> stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Stream the elements of this sequence in order, possibly in parallel.
+     * The underlying spliterator divides the work along the structure of the
+     * tree, so splitting never copies or rebuilds any part of it.
+     * @return A parallel stream over this sequence.
+     */
+    public Stream<A> parallelStream()
+    {
+        return StreamSupport.stream(spliterator(), true);
     }
 
     /**
@@ -142,15 +164,89 @@ public final class Sequence<A> implements java.lang.Iterable<A>
         return new Sequence<A>(this.tree.append(other.tree), this);
     }
 
-    // TODO: support map : [A] * (A -> B) -> [B]?
+    /**
+     * Append many sequences to the back of this sequence.
+     * This joins the sequences pairwise in a balanced order, which is cheaper
+     * than appending them one at a time.
+     * @param others The sequences to append, in order.
+     * @return A new sequence including this sequence and all the others.
+     */
+    public Sequence<A> concatAll(final Iterable<Sequence<A>> others)
+    {
+        final java.util.ArrayList<FingerTree<java.lang.Long, A>> trees =
+            new java.util.ArrayList<>();
+        for (final Sequence<A> other : others)
+        {
+            trees.add(other.tree);
+        }
+
+        return new Sequence<A>(this.tree.concatAll(trees), this);
+    }
+
+    /**
+     * Apply a function to each element in this sequence.
+     * The new sequence has the same shape as this one, and because sizes
+     * belong to the structure of the tree rather than to its elements,
+     * building it computes no measurements.
+     * @param f The function to apply.
+     * @return A new sequence containing the results.
+     */
+    public <B> Sequence<B> map(final Func<A, B> f)
+    {
+        return new Sequence<B>(
+            this.tree.map(f, SequenceFactory.<B>measurement()),
+            new Identity<B>());
+    }
+
+    /**
+     * Apply a function to each element in this sequence, in parallel.
+     * The work is spread over the common fork/join pool along the structure
+     * of the tree, so it pays off only for long sequences or expensive
+     * functions.
+     * @param f The function to apply, which must be safe to call from several
+     * threads at once.
+     * @return A new sequence containing the results, in order.
+     */
+    public <B> Sequence<B> parallelMap(final Func<A, B> f)
+    {
+        return new Sequence<B>(
+            this.tree.parallelMap(
+                f, SequenceFactory.<B>measurement(), ForkJoinPool.commonPool()),
+            new Identity<B>());
+    }
+
+    // Adapt a standard function to the tree's own.
+    private static <A, B> Func<A, B> func(final Function<? super A, ? extends B> f)
+    {
+        return new Func<A, B>() {
+            @Override
+            public B call(final A a) {
+                return f.apply(a);
+            }
+        };
+    }
+
     /**
      * Apply a function to each element in this sequence.
      * @param f The function to apply.
      * @return A new sequence containing the results.
+     * @see #map(Func)
      */
-    public Sequence<A> map(final Func<A, A> f)
+    public <B> Sequence<B> map(final Function<? super A, ? extends B> f)
     {
-        return new Sequence<A>(this.tree.map(f), this);
+        return map(Sequence.<A, B>func(f));
+    }
+
+    /**
+     * Apply a function to each element in this sequence, in parallel.
+     * @param f The function to apply, which must be safe to call from several
+     * threads at once.
+     * @return A new sequence containing the results, in order.
+     * @see #parallelMap(Func)
+     */
+    public <B> Sequence<B> parallelMap(final Function<? super A, ? extends B> f)
+    {
+        return parallelMap(Sequence.<A, B>func(f));
     }
 
     public <B> B foldLeft(final Func<B, Func<A, B>> f, final B zero)
@@ -163,6 +259,124 @@ public final class Sequence<A> implements java.lang.Iterable<A>
         return this.tree.foldRight(f, zero);
     }
 
+    /**
+     * Left-to-right accumulation.
+     * Unlike the Curried fold, this calls the function once per element
+     * without building a closure for each one.
+     * @param f The function that combines the accumulation so far with the
+     * next element.
+     * @param zero The initial accumulation.
+     * @return The accumulation of every element, or zero if this sequence is
+     * empty.
+     */
+    public <B> B foldLeft(final BiFunction<B, ? super A, B> f, final B zero)
+    {
+        return this.tree.foldLeft(f, zero);
+    }
+
+    /**
+     * Right-to-left accumulation.
+     * Unlike the Curried fold, this calls the function once per element
+     * without building a closure for each one.
+     * @param f The function that combines the next element with the
+     * accumulation of the elements after it.
+     * @param zero The initial accumulation.
+     * @return The accumulation of every element, or zero if this sequence is
+     * empty.
+     */
+    public <B> B foldRight(final BiFunction<? super A, B, B> f, final B zero)
+    {
+        return this.tree.foldRight(f, zero);
+    }
+
+    /**
+     * Combine the elements of this sequence under a monoid.
+     * Unlike the folds, this only needs the operation to be associative, so
+     * the elements can be combined along the structure of the tree.
+     * @param monoid The monoid with which to combine the results.
+     * @param f The function to apply to each element.
+     * @return The sum under the monoid of f applied to each element, in
+     * order, or the monoid's identity if this sequence is empty.
+     */
+    public <B> B reduce(final Monoid<B> monoid, final Func<A, B> f)
+    {
+        return this.tree.reduce(monoid, f);
+    }
+
+    /**
+     * Combine the elements of this sequence under a monoid, in parallel.
+     * The work is spread over the common fork/join pool along the structure
+     * of the tree, so it pays off only for long sequences or expensive
+     * functions.
+     * @param monoid The monoid with which to combine the results, whose
+     * operation must be safe to call from several threads at once.
+     * @param f The function to apply to each element, which must be safe to
+     * call from several threads at once.
+     * @return The sum under the monoid of f applied to each element, in
+     * order, or the monoid's identity if this sequence is empty.
+     */
+    public <B> B parallelReduce(final Monoid<B> monoid, final Func<A, B> f)
+    {
+        return this.tree.parallelReduce(monoid, f, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Combine the elements of this sequence under an associative operation.
+     * @param zero The identity of the operation.
+     * @param op An associative operation.
+     * @param f The function to apply to each element.
+     * @return The combination under op of f applied to each element, in
+     * order, or zero if this sequence is empty.
+     * @see #reduce(Monoid, Func)
+     */
+    public <B> B reduce(
+        final B zero,
+        final BinaryOperator<B> op,
+        final Function<? super A, ? extends B> f)
+    {
+        return reduce(new Monoid<B>(new Monoid2<B>() {
+            @Override
+            public B sum(final B a, final B b) {
+                return op.apply(a, b);
+            }
+
+            @Override
+            public B zero() {
+                return zero;
+            }
+        }), Sequence.<A, B>func(f));
+    }
+
+    /**
+     * Add up an int drawn from each element, without boxing.
+     * @param f The function that yields each element's int.
+     * @return The sum, which wraps around on overflow.
+     */
+    public int sumInt(final ToIntFunction<? super A> f)
+    {
+        int result = 0;
+        for (final A a : this)
+        {
+            result += f.applyAsInt(a);
+        }
+        return result;
+    }
+
+    /**
+     * Add up a long drawn from each element, without boxing.
+     * @param f The function that yields each element's long.
+     * @return The sum, which wraps around on overflow.
+     */
+    public long sumLong(final ToLongFunction<? super A> f)
+    {
+        long result = 0;
+        for (final A a : this)
+        {
+            result += f.applyAsLong(a);
+        }
+        return result;
+    }
+
     public Sequence<A> reverse()
     {
         return new Sequence<A>(this.tree.reverse(this.identity), this);
@@ -170,12 +384,44 @@ public final class Sequence<A> implements java.lang.Iterable<A>
 
     /**
      * Get the element at the given index.
+     * This walks down the tree without splitting it, so it allocates nothing.
      * @param index
      * @return
+     * @throws IndexOutOfBoundsException if the index is negative or not less
+     * than this sequence's size.
      */
     public A at(final int index)
     {
-        return this.split(index).right.head();
+        return this.tree.at(index);
+    }
+
+    /**
+     * Replace the element at the given index.
+     * Only the nodes on the path down to that element are rebuilt; nothing
+     * is split or appended.
+     * @param index The index of the element to replace.
+     * @param a The replacement.
+     * @return A new sequence with the replacement in place.
+     * @throws IndexOutOfBoundsException if the index is negative or not less
+     * than this sequence's size.
+     */
+    public Sequence<A> update(final int index, final A a)
+    {
+        return new Sequence<A>(this.tree.update(index, a), this);
+    }
+
+    /**
+     * Apply a function to the element at the given index.
+     * @see #update
+     * @param index The index of the element to change.
+     * @param f The function to apply to that element.
+     * @return A new sequence with the result in place of that element.
+     * @throws IndexOutOfBoundsException if the index is negative or not less
+     * than this sequence's size.
+     */
+    public Sequence<A> adjust(final int index, final Func<A, A> f)
+    {
+        return new Sequence<A>(this.tree.adjust(index, f), this);
     }
 
     /**
@@ -186,7 +432,7 @@ public final class Sequence<A> implements java.lang.Iterable<A>
      */
     public Sequence<A> insert(final int index, final A a)
     {
-        FingerTree.SplitPair<java.lang.Integer, A> splat = this.split(index);
+        FingerTree.SplitPair<java.lang.Long, A> splat = this.split(index);
         return new Sequence(splat.left.pushBack(a).append(splat.right), this);
     }
 
@@ -197,17 +443,126 @@ public final class Sequence<A> implements java.lang.Iterable<A>
      */
     public Sequence<A> delete(final int index)
     {
-        FingerTree.SplitPair<java.lang.Integer, A> splat = this.split(index);
+        FingerTree.SplitPair<java.lang.Long, A> splat = this.split(index);
         return new Sequence(splat.left.append(splat.right.tail()), this);
     }
 
+    /**
+     * Start a batch of in-place edits.
+     * This sequence is unaffected by anything done to the result.
+     * @return A transient sequence, owned by the calling thread, with the same
+     * elements as this sequence.
+     */
+    public TransientSequence<A> asTransient()
+    {
+        return new TransientSequence<A>(this, this.tree);
+    }
+
+    /**
+     * Insert another sequence before the element at the given index.
+     * This splits once and concatenates once, however long the other
+     * sequence is.
+     * @param index The index before which to insert.
+     * @param other The sequence to insert.
+     * @return A new sequence including the other sequence at the given index.
+     */
+    public Sequence<A> insertAll(final int index, final Sequence<A> other)
+    {
+        final FingerTree.SplitPair<java.lang.Long, A> splat = this.split(index);
+        return new Sequence<A>(
+            splat.left.concatAll(Arrays.asList(other.tree, splat.right)),
+            this);
+    }
+
+    /**
+     * Insert some elements before the element at the given index.
+     * The elements are built into a tree of their own in linear time before
+     * being spliced in.
+     * @param index The index before which to insert.
+     * @param items The elements to insert, in iteration order.
+     * @return A new sequence including the elements at the given index.
+     */
+    @SuppressWarnings("unchecked")
+    public Sequence<A> insertAll(final int index, final Iterable<? extends A> items)
+    {
+        final A[] array;
+        if (items instanceof Collection)
+        {
+            array = (A[]) ((Collection<? extends A>) items).toArray();
+        }
+        else
+        {
+            final ArrayList<A> buffer = new ArrayList<>();
+            for (final A a : items)
+            {
+                buffer.add(a);
+            }
+            array = (A[]) buffer.toArray();
+        }
+
+        final FingerTree.SplitPair<java.lang.Long, A> splat = this.split(index);
+        return new Sequence<A>(
+            splat.left.appendAll(array, 0, array.length).append(splat.right),
+            this);
+    }
+
+    /**
+     * Delete the elements at positions from (inclusive) to to (exclusive).
+     * This cuts once at each end of the range and joins what is left, so it
+     * costs the same however many elements go. Positions outside this
+     * sequence are clamped, as they are for {@link #take} and {@link #drop}.
+     * @param from The index of the first element to delete.
+     * @param to The index after the last element to delete.
+     * @return A new sequence without the given range.
+     */
+    public Sequence<A> deleteRange(final int from, final int to)
+    {
+        return splice(from, to, null);
+    }
+
+    /**
+     * Replace the elements at positions from (inclusive) to to (exclusive)
+     * with another sequence.
+     * @see #deleteRange
+     * @param from The index of the first element to replace.
+     * @param to The index after the last element to replace.
+     * @param other The replacement.
+     * @return A new sequence with the other sequence in place of the range.
+     * @throws NullPointerException if the other sequence is null.
+     */
+    public Sequence<A> replaceRange(final int from, final int to,
+        final Sequence<A> other)
+    {
+        if (null == other)
+        {
+            throw new java.lang.NullPointerException(
+                "Sequence.replaceRange(): null sequence");
+        }
+
+        return splice(from, to, other.tree);
+    }
+
+    // Cut out the given range and put the given tree, if any, in its place.
+    private Sequence<A> splice(final int from, final int to,
+        final FingerTree<java.lang.Long, A> replacement)
+    {
+        final FingerTree.SplitPair<java.lang.Long, A> splat = this.split(from);
+        final FingerTree<java.lang.Long, A> rest =
+            splat.right.splitAt(to - Math.max(from, 0)).right;
+        return new Sequence<A>(
+            (null == replacement) ?
+                splat.left.append(rest) :
+                splat.left.concatAll(Arrays.asList(replacement, rest)),
+            this);
+    }
+
     /**
      * Get this sequence's size.
      * @return This sequence's size.
      */
-    public java.lang.Integer size()
+    public int size()
     {
-        return this.tree.measure();
+        return this.tree.size();
     }
 
     /**
@@ -230,6 +585,38 @@ public final class Sequence<A> implements java.lang.Iterable<A>
         return new Sequence(this.split(count).right, this);
     }
 
+    /**
+     * Get the elements at positions from (inclusive) to to (exclusive).
+     * This cuts both ends of the range in a single pass down the tree, so it
+     * is cheaper than dropping and then taking. Like those, it clamps
+     * positions outside this sequence.
+     * @param from The index of the first element to keep.
+     * @param to The index after the last element to keep.
+     * @return A new sequence containing only the given range.
+     */
+    public Sequence<A> slice(final int from, final int to)
+    {
+        return new Sequence<A>(this.tree.slice(from, to), this);
+    }
+
+    /**
+     * Get a read-only view of the elements at positions from (inclusive) to
+     * to (exclusive).
+     * Unlike {@link #slice}, this builds nothing up front, which suits callers
+     * that only look at a few elements of each range, such as a sliding
+     * window.
+     * @param from The index of the first element in the view.
+     * @param to The index after the last element in the view.
+     * @return An unmodifiable list backed by this sequence.
+     * @throws IndexOutOfBoundsException if the range is not within this
+     * sequence.
+     */
+    public java.util.List<A> subList(final int from, final int to)
+    {
+        SequenceView.checkRange(from, to, size());
+        return new SequenceView<A>(this, from, to);
+    }
+
     @Override
     public boolean equals(final java.lang.Object o)
     {
@@ -245,37 +632,23 @@ public final class Sequence<A> implements java.lang.Iterable<A>
             return true;
         }
 
-        if (size() != other.size())
-        {
-            return false;
-        }
-
-        View<java.lang.Integer, A> i = this.tree.viewLeft();
-        View<java.lang.Integer, A> j = other.tree.viewLeft();
-        while (i != null)
-        {
-            if (!Objects.equal(i.head, j.head))
-            {
-                return false;
-            }
-
-            i = i.tail.viewLeft();
-            j = j.tail.viewLeft();
-        }
-
-        return true;
+        return this.tree.elementsEqual(other.tree);
     }
 
+    /**
+     * Get this sequence's hash code, which is the same one that a
+     * {@link java.util.List} with the same elements would have.
+     * Every part of the tree caches the hash of its elements, so after the
+     * first call, hashing a sequence derived from this one only visits the
+     * parts that differ. Elements whose hash codes change while they are in a
+     * sequence therefore make its hash code stale.
+     * @return This sequence's hash code.
+     */
     @Override
     public int hashCode()
     {
-        int result = 7;
-        for (final A a : this.tree)
-        {
-            final int c = Objects.hashCode(a);
-            result = 37 * result + c;
-        }
-        return result;
+        final long v = this.tree.measure();
+        return (int)(v >>> 32) + (int)v;
     }
 
     // TODO: toString()
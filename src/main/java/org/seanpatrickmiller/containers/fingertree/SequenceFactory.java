@@ -1,5 +1,12 @@
 package org.seanpatrickmiller.containers.fingertree;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import org.seanpatrickmiller.containers.fingertree.impl.ChunkedFingerTree;
 import org.seanpatrickmiller.containers.fingertree.impl.Empty;
 import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
 import org.seanpatrickmiller.containers.fingertree.impl.Measured;
@@ -7,6 +14,7 @@ import org.seanpatrickmiller.containers.fingertree.impl.Single;
 import org.seanpatrickmiller.containers.util.Func;
 import org.seanpatrickmiller.containers.util.Identity;
 import org.seanpatrickmiller.containers.util.Monoids;
+import org.seanpatrickmiller.containers.util.Varargs;
 
 /**
  * Factory for creating indexed sequences backed by
@@ -14,15 +22,28 @@ import org.seanpatrickmiller.containers.util.Monoids;
  */
 public final class SequenceFactory<A>
 {
-    // Constant-valued function that always returns one.
-    private final Func<A, java.lang.Integer> returnOne;
+    // Sequence measurement algorithm, shared by sequences of every element
+    // type. Sizes are cached in the tree itself, so the annotations hold the
+    // polynomial hash of each subtree instead, and since they are computed on
+    // demand, only sequences that get hashed ever pay for them.
+    private static final Measured<java.lang.Long, Object> HASHING =
+        new Measured<>(Monoids.HASH, new Func<Object, java.lang.Long>() {
+            @Override
+            public java.lang.Long call(final Object a) {
+                return ((long)Objects.hashCode(a) << 32) | 31;
+            }
+        });
 
     // Sequence measurement algorithm.
-    private final Measured<java.lang.Integer, A> measured;
+    private final Measured<java.lang.Long, A> measured;
 
     // The identity function.
     private final Identity<A> identity;
 
+    // How many elements to pack into each leaf, or zero to store elements
+    // directly in the tree.
+    private final int chunkSize;
+
     // The empty sequence.
     private final Sequence<A> nil;
 
@@ -31,18 +52,46 @@ public final class SequenceFactory<A>
      */
     public SequenceFactory()
     {
-        this.returnOne = new Func<A, java.lang.Integer>() {
-            @Override
-            public java.lang.Integer call(final A ignored) {
-                return 1;
-            }
-        };
+        this(0);
+    }
+
+    /**
+     * Create a new factory instance whose sequences pack their elements into
+     * arrays.
+     * Each element then costs little more than it would in an ArrayList, and
+     * iteration walks along arrays instead of chasing a pointer per element.
+     * A chunk size of zero stores elements directly in the tree, as the
+     * default constructor does.
+     * @param chunkSize The most elements to store in each leaf of the tree,
+     * such as 32 or 64.
+     * @throws IllegalArgumentException if the chunk size is negative or one.
+     */
+    public SequenceFactory(final int chunkSize)
+    {
+        if (chunkSize < 0 || 1 == chunkSize)
+        {
+            throw new java.lang.IllegalArgumentException(
+                "SequenceFactory(): bad chunk size " + chunkSize);
+        }
 
-        this.measured = new Measured<>(Monoids.SUM, this.returnOne);
+        this.measured = SequenceFactory.<A>measurement();
 
         this.identity = new Identity<>();
 
-        this.nil = new Sequence<>(new Empty<>(this.measured), this.identity);
+        this.chunkSize = chunkSize;
+
+        this.nil = new Sequence<>(
+            0 == chunkSize ?
+                new Empty<>(this.measured) :
+                ChunkedFingerTree.empty(this.measured, chunkSize),
+            this.identity);
+    }
+
+    // The measurement algorithm for sequences of the given element type.
+    @SuppressWarnings("unchecked")
+    static <B> Measured<java.lang.Long, B> measurement()
+    {
+        return (Measured<java.lang.Long, B>)(Measured<java.lang.Long, ?>)HASHING;
     }
 
     /**
@@ -61,7 +110,9 @@ public final class SequenceFactory<A>
      */
     public Sequence makeSingleton(final A a)
     {
-        return new Sequence(new Single<>(this.measured, a), this.identity);
+        return 0 == this.chunkSize ?
+            new Sequence(new Single<>(this.measured, a), this.identity) :
+            this.nil.pushBack(a);
     }
 
     /**
@@ -72,14 +123,77 @@ public final class SequenceFactory<A>
      */
     public Sequence make(final A first, final A... rest)
     {
-        FingerTree<java.lang.Integer, A> temp = new Single<>(
-            this.measured, first);
+        return fromArray(Varargs.prepend(first, rest));
+    }
 
-        for (final A value : rest)
+    /**
+     * Create a sequence from the contents of an array.
+     * This builds the sequence in linear time, which is considerably cheaper
+     * than pushing each element onto the back of a growing sequence.
+     * @param array Some elements.
+     * @return A new sequence containing the given elements in array order.
+     */
+    public Sequence<A> fromArray(final A[] array)
+    {
+        return new Sequence<A>(
+            0 == this.chunkSize ?
+                FingerTree.fromArray(this.measured, array, 0, array.length) :
+                ChunkedFingerTree.fromArray(
+                    this.measured, this.chunkSize, array, 0, array.length),
+            this.identity);
+    }
+
+    /**
+     * Create a sequence from the contents of a collection.
+     * @param collection Some elements.
+     * @return A new sequence containing the given elements in the order
+     * returned by the collection's iterator.
+     */
+    @SuppressWarnings("unchecked")
+    public Sequence<A> fromCollection(final Collection<? extends A> collection)
+    {
+        return fromArray((A[]) collection.toArray());
+    }
+
+    /**
+     * Create a sequence from the remaining elements of an iterator.
+     * @param iterator Some elements.
+     * @return A new sequence containing the given elements in iteration
+     * order.
+     */
+    public Sequence<A> fromIterator(final Iterator<? extends A> iterator)
+    {
+        final ArrayList<A> buffer = new ArrayList<>();
+        while (iterator.hasNext())
         {
-            temp = temp.pushBack(value);
+            buffer.add(iterator.next());
         }
 
-        return new Sequence(temp, this.identity);
+        return fromCollection(buffer);
+    }
+
+    /**
+     * Create a sequence from the remaining elements of a spliterator.
+     * @param spliterator Some elements.
+     * @return A new sequence containing the given elements in encounter
+     * order.
+     */
+    public Sequence<A> fromSpliterator(
+        final Spliterator<? extends A> spliterator)
+    {
+        final long size = spliterator.getExactSizeIfKnown();
+        final ArrayList<A> buffer = (size < 0 || size > Integer.MAX_VALUE) ?
+            new ArrayList<A>() :
+            new ArrayList<A>((int) size);
+
+        spliterator.forEachRemaining(new Consumer<A>() {
+            @Override
+            public void accept(final A a)
+            {
+                buffer.add(a);
+            }
+        });
+
+        return fromCollection(buffer);
     }
 }
@@ -0,0 +1,70 @@
+package org.seanpatrickmiller.containers.fingertree;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.Spliterator;
+
+/**
+ * Read-only list view of a range of a sequence.
+ * Creating one copies nothing. Each lookup goes straight to the underlying
+ * tree, and iteration slices the range out of the tree once, up front.
+ */
+final class SequenceView<A> extends AbstractList<A>
+{
+    private final Sequence<A> seq;
+    private final int from;
+    private final int to;
+
+    SequenceView(final Sequence<A> seq, final int from, final int to)
+    {
+        this.seq = seq;
+        this.from = from;
+        this.to = to;
+    }
+
+    static void checkRange(final int from, final int to, final int size)
+    {
+        if (from < 0 || to > size || from > to)
+        {
+            throw new java.lang.IndexOutOfBoundsException(
+                "SequenceView: bad range [" + from + "," + to + ") of " + size);
+        }
+    }
+
+    @Override
+    public A get(final int index)
+    {
+        if (index < 0 || index >= size())
+        {
+            throw new java.lang.IndexOutOfBoundsException(
+                "SequenceView.get(): index " + index + " out of range");
+        }
+
+        return this.seq.at(this.from + index);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.to - this.from;
+    }
+
+    @Override
+    public Iterator<A> iterator()
+    {
+        return this.seq.slice(this.from, this.to).iterator();
+    }
+
+    @Override
+    public Spliterator<A> spliterator()
+    {
+        return this.seq.slice(this.from, this.to).spliterator();
+    }
+
+    @Override
+    public java.util.List<A> subList(final int from, final int to)
+    {
+        checkRange(from, to, size());
+        return new SequenceView<A>(this.seq, this.from + from, this.from + to);
+    }
+}
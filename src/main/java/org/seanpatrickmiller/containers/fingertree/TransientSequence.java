@@ -0,0 +1,224 @@
+package org.seanpatrickmiller.containers.fingertree;
+
+import java.util.Arrays;
+import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
+
+/**
+ * Mutable, single-threaded view of an indexed sequence for batches of edits.
+ *
+ * <p>Every edit of a {@link Sequence} produces a new, complete version of it,
+ * which is a waste when a loader applies thousands of edits and only wants
+ * the final result. A transient sequence instead gathers elements added at
+ * the back into an array that it owns outright and edits in place, so
+ * pushing costs about as much as adding to an ArrayList. Once the array fills
+ * up, or when {@link #persistent()} is called, its contents are built into a
+ * tree in linear time and appended in one go. Edits that land in front of the
+ * array fall through to the persistent tree.</p>
+ *
+ * <p>A transient sequence belongs to the thread that created it, and calling
+ * any method from another thread throws an exception, as does calling any
+ * method after {@link #persistent()}. The sequence it came from, and every
+ * sequence it produces, remain immutable and safe to share.</p>
+ */
+public final class TransientSequence<A>
+{
+    // How many elements to gather before building them into the tree.
+    private static final int CAPACITY = 1024;
+
+    // The sequence this was created from, for its state.
+    private final Sequence<A> origin;
+
+    // The elements before the buffer.
+    private FingerTree<java.lang.Long, A> tree;
+
+    // The elements after the tree, with the unused slots at the end.
+    private Object[] buffer;
+    private int count;
+
+    // The thread allowed to edit this, or null once frozen.
+    private Thread owner;
+
+    TransientSequence(final Sequence<A> origin,
+        final FingerTree<java.lang.Long, A> tree)
+    {
+        this.origin = origin;
+        this.tree = tree;
+        this.buffer = new Object[16];
+        this.count = 0;
+        this.owner = Thread.currentThread();
+    }
+
+    private void ensureEditable()
+    {
+        if (null == this.owner)
+        {
+            throw new java.lang.IllegalStateException(
+                "TransientSequence: used after persistent()");
+        }
+        if (Thread.currentThread() != this.owner)
+        {
+            throw new java.lang.IllegalStateException(
+                "TransientSequence: used by a thread that does not own it");
+        }
+    }
+
+    // Build the buffered elements into the tree and empty the buffer.
+    @SuppressWarnings("unchecked")
+    private void flush()
+    {
+        if (this.count > 0)
+        {
+            this.tree = this.tree.appendAll((A[]) this.buffer, 0, this.count);
+            Arrays.fill(this.buffer, 0, this.count, null);
+            this.count = 0;
+        }
+    }
+
+    private void checkIndex(final int index, final int limit)
+    {
+        if (index < 0 || index > limit)
+        {
+            throw new java.lang.IndexOutOfBoundsException(
+                "TransientSequence: index " + index + " out of range");
+        }
+    }
+
+    /**
+     * Get this sequence's size.
+     * @return This sequence's size.
+     */
+    public int size()
+    {
+        ensureEditable();
+        return this.tree.size() + this.count;
+    }
+
+    /**
+     * Get the element at the given index.
+     * @param index
+     * @return The element at the given index.
+     * @throws IndexOutOfBoundsException if the index is negative or not less
+     * than this sequence's size.
+     */
+    @SuppressWarnings("unchecked")
+    public A at(final int index)
+    {
+        ensureEditable();
+        checkIndex(index, size() - 1);
+
+        final int offset = index - this.tree.size();
+        return offset < 0 ?
+            this.tree.at(index) :
+            (A) this.buffer[offset];
+    }
+
+    /**
+     * Push an element onto the front of this sequence.
+     * The element goes straight onto the front of the persistent tree, at the
+     * same cost as {@link Sequence#pushFront}.
+     * @param a The element to push.
+     * @return This sequence.
+     */
+    public TransientSequence<A> pushFront(final A a)
+    {
+        ensureEditable();
+        this.tree = this.tree.pushFront(a);
+        return this;
+    }
+
+    /**
+     * Push an element onto the back of this sequence, in place.
+     * @param a The element to push.
+     * @return This sequence.
+     */
+    public TransientSequence<A> pushBack(final A a)
+    {
+        return insert(size(), a);
+    }
+
+    /**
+     * Insert an item before the element at the given index.
+     * An index among the elements gathered since the last build is edited in
+     * place. An index before them splits and rejoins the persistent tree,
+     * which copies O(log<sub>2</sub>(<i>n</i>)) of it just as {@link Sequence#insert}
+     * would.
+     * @param index The index before which to insert.
+     * @param a The element to insert.
+     * @return This sequence.
+     */
+    public TransientSequence<A> insert(final int index, final A a)
+    {
+        ensureEditable();
+        checkIndex(index, size());
+
+        // Only an edit that lands in the buffer needs room there.
+        int offset = index - this.tree.size();
+        if (offset >= 0 && CAPACITY == this.count)
+        {
+            flush();
+            offset = index - this.tree.size();
+        }
+
+        if (offset < 0)
+        {
+            final FingerTree.SplitPair<java.lang.Long, A> splat =
+                this.tree.splitAt(index);
+            this.tree = splat.left.pushBack(a).append(splat.right);
+            return this;
+        }
+
+        if (this.count == this.buffer.length)
+        {
+            this.buffer = Arrays.copyOf(this.buffer, 2 * this.count);
+        }
+
+        System.arraycopy(this.buffer, offset, this.buffer, offset + 1,
+            this.count - offset);
+        this.buffer[offset] = a;
+        ++this.count;
+        return this;
+    }
+
+    /**
+     * Delete the item at the given index.
+     * An index among the elements gathered since the last build is edited in
+     * place. An index before them splits and rejoins the persistent tree,
+     * which copies O(log<sub>2</sub>(<i>n</i>)) of it just as {@link Sequence#delete}
+     * would.
+     * @param index The index of the element to delete.
+     * @return This sequence.
+     */
+    public TransientSequence<A> delete(final int index)
+    {
+        ensureEditable();
+        checkIndex(index, size() - 1);
+
+        final int offset = index - this.tree.size();
+        if (offset < 0)
+        {
+            final FingerTree.SplitPair<java.lang.Long, A> splat =
+                this.tree.splitAt(index);
+            this.tree = splat.left.append(splat.right.tail());
+            return this;
+        }
+
+        System.arraycopy(this.buffer, offset + 1, this.buffer, offset,
+            this.count - offset - 1);
+        this.buffer[--this.count] = null;
+        return this;
+    }
+
+    /**
+     * Freeze this sequence.
+     * Afterwards, this transient sequence can no longer be used.
+     * @return An immutable sequence with the same elements.
+     */
+    public Sequence<A> persistent()
+    {
+        ensureEditable();
+        flush();
+        this.owner = null;
+        this.buffer = null;
+        return new Sequence<A>(this.tree, this.origin);
+    }
+}
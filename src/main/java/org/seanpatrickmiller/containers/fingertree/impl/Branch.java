@@ -0,0 +1,210 @@
+package org.seanpatrickmiller.containers.fingertree.impl;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+import org.seanpatrickmiller.containers.util.Func;
+import org.seanpatrickmiller.containers.util.Monoid;
+
+/**
+ * Anything a tree stores in place of a run of its elements: the 2-3 nodes of
+ * an ordinary finger tree, and the chunks of a chunked one. A branch caches
+ * its size and annotation and can be searched, updated, mapped and folded,
+ * which is all the measurements and iterators need to see through it. Only
+ * nodes can be broken up into digits, so splitting lives in {@link Node}.
+ */
+abstract class Branch<V, A>
+{
+    // Branches with fewer elements than this are handled in the current
+    // thread, since forking would cost more than it saves.
+    static final int PARALLEL_THRESHOLD = 1024;
+
+    protected final Measured<V, A> m;
+    // The annotation, as prepared for the measurement.
+    private final Object v;
+    final int size;
+
+    Branch(final Measured<V, A> m, final Object v, final int size)
+    {
+        this.m = m;
+        this.v = v;
+        this.size = size;
+    }
+
+    abstract Branch<V, A> reverse(final Func<A, A> f);
+
+    abstract <B> Branch<V, B> map(final Func<A, B> f, final Measured<V, B> m);
+
+    abstract Branch<V, A> map(final Func<A, A> f);
+
+    abstract <B> B foldRight(final Func<A, Func<B, B>> f, final B zero);
+
+    abstract <B> B foldLeft(final Func<B, Func<A, B>> f, final B zero);
+
+    abstract <B> B foldRight(final BiFunction<? super A, B, B> f, final B zero);
+
+    abstract <B> B foldLeft(final BiFunction<B, ? super A, B> f, final B zero);
+
+    abstract Object lookup(final Func<V, Boolean> pred, final V i);
+
+    abstract Object at(final int i);
+
+    abstract Branch<V, A> adjust(final int i, final Func<Object, Object> f);
+
+    abstract int arity();
+
+    abstract A child(final int k);
+
+    V measure()
+    {
+        return m.annotation(v);
+    }
+
+    Measured<V, A> measured()
+    {
+        return m;
+    }
+
+    // Applies the function to each child, each but the first in a task of
+    // its own, and returns the results in order.
+    <B> Object[] parallelApply(final Func<A, B> f)
+    {
+        final int n = arity();
+        final java.util.List<ForkJoinTask<B>> tasks = new java.util.ArrayList<>(n);
+        for (int k = 1; k < n; ++k)
+        {
+            final A child = child(k);
+            tasks.add(ForkJoinTask.adapt(new Callable<B>() {
+                @Override
+                public B call() {
+                    return f.call(child);
+                }
+            }).fork());
+        }
+
+        final Object[] results = new Object[n];
+        results[0] = f.call(child(0));
+        for (int k = n - 1; k > 0; --k)
+        {
+            results[k] = tasks.get(k - 1).join();
+        }
+        return results;
+    }
+
+    <B> B reduce(final Monoid<B> monoid, final Func<A, B> f)
+    {
+        B result = f.call(child(0));
+        for (int k = 1; k < arity(); ++k)
+        {
+            result = monoid.sum(result, f.call(child(k)));
+        }
+        return result;
+    }
+
+    // Reduces each child in a task of its own.
+    <B> B parallelReduce(final Monoid<B> monoid, final Func<A, B> f)
+    {
+        final int n = arity();
+        final java.util.List<RecursiveTask<B>> tasks = new java.util.ArrayList<>(n);
+        for (int k = 1; k < n; ++k)
+        {
+            final A child = child(k);
+            final RecursiveTask<B> task = new RecursiveTask<B>() {
+                @Override
+                protected B compute() {
+                    return f.call(child);
+                }
+            };
+            task.fork();
+            tasks.add(task);
+        }
+
+        B result = f.call(child(0));
+        for (final RecursiveTask<B> task : tasks)
+        {
+            result = monoid.sum(result, task.join());
+        }
+        return result;
+    }
+
+    static <V, A, B, N extends Branch<V, A>> Func<N, B> liftReduce(
+        final Monoid<B> monoid,
+        final Func<A, B> f)
+    {
+        return new Func<N, B>() {
+            @Override
+            public B call(final N branch) {
+                return branch.reduce(monoid, f);
+            }
+        };
+    }
+
+    static <V, A, B, N extends Branch<V, A>> Func<N, B> liftParallelReduce(
+        final Monoid<B> monoid,
+        final Func<A, B> f)
+    {
+        return new Func<N, B>() {
+            @Override
+            public B call(final N branch) {
+                return (branch.size < PARALLEL_THRESHOLD) ?
+                    branch.reduce(monoid, f) :
+                    branch.parallelReduce(monoid, f);
+            }
+        };
+    }
+
+    static <V, A, B, N extends Branch<V, A>> Func<B, Func<N, B>> liftFoldLeft(
+        final Func<B, Func<A, B>> f)
+    {
+        return new Func<B, Func<N, B>>() {
+            @Override
+            public Func<N, B> call(final B b) {
+                return new Func<N, B>() {
+                    @Override
+                    public B call(final N branch) {
+                        return branch.foldLeft(f, b);
+                    }
+                };
+            }
+        };
+    }
+
+    static <V, A, B, N extends Branch<V, A>> Func<B, Func<N, B>> liftFoldRight(
+        final Func<A, Func<B, B>> f)
+    {
+        return new Func<B, Func<N, B>>() {
+            @Override
+            public Func<N, B> call(final B b) {
+                return new Func<N, B>() {
+                    @Override
+                    public B call(final N branch) {
+                        return branch.foldRight(f, b);
+                    }
+                };
+            }
+        };
+    }
+
+    static <V, A, B, N extends Branch<V, A>> BiFunction<B, N, B> liftFoldLeft(
+        final BiFunction<B, ? super A, B> f)
+    {
+        return new BiFunction<B, N, B>() {
+            @Override
+            public B apply(final B b, final N branch) {
+                return branch.foldLeft(f, b);
+            }
+        };
+    }
+
+    static <V, A, B, N extends Branch<V, A>> BiFunction<N, B, B> liftFoldRight(
+        final BiFunction<? super A, B, B> f)
+    {
+        return new BiFunction<N, B, B>() {
+            @Override
+            public B apply(final N branch, final B b) {
+                return branch.foldRight(f, b);
+            }
+        };
+    }
+}
@@ -0,0 +1,263 @@
+package org.seanpatrickmiller.containers.fingertree.impl;
+
+import java.util.function.BiFunction;
+import org.seanpatrickmiller.containers.util.Func;
+import org.seanpatrickmiller.containers.util.RacyLazy;
+
+/**
+ * A branch of arbitrary width whose children are packed into a flat array.
+ * Chunked trees store these as the elements of their underlying tree, so an
+ * element costs one array slot instead of a share of a 2-3 node, and
+ * neighbouring elements sit next to each other in memory. Chunks never end up
+ * inside the digits of the tree they are packed from, so unlike a
+ * {@link Node} a chunk cannot be split into a digit; chunked trees cut
+ * chunks with {@link #slice} instead.
+ */
+final class Chunk<V, A> extends Branch<V, A>
+{
+    private final Object[] items;
+
+    Chunk(final Measured<V, A> m, final Object[] items)
+    {
+        super(m, m.isStrict() ?
+            sum(m, items) :
+            new RacyLazy<V>() {
+                @Override
+                protected V eval()
+                {
+                    return sum(m, items);
+                }
+            }, items.length);
+
+        this.items = items;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V, A> V sum(final Measured<V, A> m, final Object[] items)
+    {
+        V result = m.measure((A) items[0]);
+        for (int k = 1; k < items.length; ++k)
+        {
+            result = m.sum(result, m.measure((A) items[k]));
+        }
+        return result;
+    }
+
+    static <V, A> Chunk<V, A> of(final Measured<V, A> m, final A a)
+    {
+        return new Chunk<V, A>(m, new Object[] { a });
+    }
+
+    // Copy out the children in [from, to).
+    Chunk<V, A> slice(final int from, final int to)
+    {
+        return new Chunk<V, A>(m, java.util.Arrays.copyOfRange(items, from, to));
+    }
+
+    Chunk<V, A> prepend(final A a)
+    {
+        final Object[] result = new Object[items.length + 1];
+        result[0] = a;
+        System.arraycopy(items, 0, result, 1, items.length);
+        return new Chunk<V, A>(m, result);
+    }
+
+    Chunk<V, A> append(final A a)
+    {
+        final Object[] result = java.util.Arrays.copyOf(items, items.length + 1);
+        result[items.length] = a;
+        return new Chunk<V, A>(m, result);
+    }
+
+    Chunk<V, A> concat(final Chunk<V, A> that)
+    {
+        final Object[] result =
+            java.util.Arrays.copyOf(items, items.length + that.items.length);
+        System.arraycopy(that.items, 0, result, items.length, that.items.length);
+        return new Chunk<V, A>(m, result);
+    }
+
+    Chunk<V, A> replace(final int k, final A a)
+    {
+        final Object[] result = items.clone();
+        result[k] = a;
+        return new Chunk<V, A>(m, result);
+    }
+
+    // Position of the first child at which the accumulated measure satisfies
+    // the predicate, or of the last child if it never does.
+    int find(final Func<V, Boolean> pred, final V i)
+    {
+        V acc = i;
+        for (int k = 0; k < items.length - 1; ++k)
+        {
+            acc = m.sum(acc, m.measure(child(k)));
+            if (pred.call(acc))
+            {
+                return k;
+            }
+        }
+        return items.length - 1;
+    }
+
+    @Override
+    Chunk<V, A> reverse(final Func<A, A> f)
+    {
+        final Object[] result = new Object[items.length];
+        for (int k = 0; k < items.length; ++k)
+        {
+            result[items.length - 1 - k] = f.call(child(k));
+        }
+        return new Chunk<V, A>(m, result);
+    }
+
+    @Override
+    <B> Chunk<V, B> map(final Func<A, B> f, final Measured<V, B> m)
+    {
+        final Object[] result = new Object[items.length];
+        for (int k = 0; k < items.length; ++k)
+        {
+            result[k] = f.call(child(k));
+        }
+        return new Chunk<V, B>(m, result);
+    }
+
+    @Override
+    Chunk<V, A> map(final Func<A, A> f)
+    {
+        return map(f, m);
+    }
+
+    // Maps each child in a task of its own.
+    <B> Chunk<V, B> parallelMap(final Func<A, B> f, final Measured<V, B> m)
+    {
+        return new Chunk<V, B>(m, parallelApply(f));
+    }
+
+    @Override
+    <B> B foldRight(final Func<A, Func<B, B>> f, final B zero)
+    {
+        B result = zero;
+        for (int k = items.length - 1; k >= 0; --k)
+        {
+            result = f.call(child(k)).call(result);
+        }
+        return result;
+    }
+
+    @Override
+    <B> B foldLeft(final Func<B, Func<A, B>> f, final B zero)
+    {
+        B result = zero;
+        for (int k = 0; k < items.length; ++k)
+        {
+            result = f.call(result).call(child(k));
+        }
+        return result;
+    }
+
+    @Override
+    <B> B foldRight(final BiFunction<? super A, B, B> f, final B zero)
+    {
+        B result = zero;
+        for (int k = items.length - 1; k >= 0; --k)
+        {
+            result = f.apply(child(k), result);
+        }
+        return result;
+    }
+
+    @Override
+    <B> B foldLeft(final BiFunction<B, ? super A, B> f, final B zero)
+    {
+        B result = zero;
+        for (int k = 0; k < items.length; ++k)
+        {
+            result = f.apply(result, child(k));
+        }
+        return result;
+    }
+
+    @Override
+    Object lookup(final Func<V, Boolean> pred, final V i)
+    {
+        return child(find(pred, i));
+    }
+
+    @Override
+    Object at(final int i)
+    {
+        return items[i];
+    }
+
+    @Override
+    Chunk<V, A> adjust(final int i, final Func<Object, Object> f)
+    {
+        return replace(i, m.adjust(child(i), 0, f));
+    }
+
+    @Override
+    int arity()
+    {
+        return items.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    A child(final int k)
+    {
+        return (A) items[k];
+    }
+
+    @Override
+    public java.lang.String toString()
+    {
+        return "Chunk" + java.util.Arrays.toString(items);
+    }
+
+    static <V, A> Func<Chunk<V, A>, Chunk<V, A>> liftReverse(final Func<A, A> f)
+    {
+        return new Func<Chunk<V, A>, Chunk<V, A>>() {
+            @Override
+            public Chunk<V, A> call(final Chunk<V, A> chunk) {
+                return chunk.reverse(f);
+            }
+        };
+    }
+
+    static <V, A, B> Func<Chunk<V, A>, Chunk<V, B>> liftMap(
+        final Func<A, B> f,
+        final Measured<V, B> m)
+    {
+        return new Func<Chunk<V, A>, Chunk<V, B>>() {
+            @Override
+            public Chunk<V, B> call(final Chunk<V, A> chunk) {
+                return chunk.map(f, m);
+            }
+        };
+    }
+
+    static <V, A, B> Func<Chunk<V, A>, Chunk<V, B>> liftParallelMap(
+        final Func<A, B> f,
+        final Measured<V, B> m)
+    {
+        return new Func<Chunk<V, A>, Chunk<V, B>>() {
+            @Override
+            public Chunk<V, B> call(final Chunk<V, A> chunk) {
+                return (chunk.size < PARALLEL_THRESHOLD) ?
+                    chunk.map(f, m) :
+                    chunk.parallelMap(f, m);
+            }
+        };
+    }
+
+    static <V, A> Func<Chunk<V, A>, Chunk<V, A>> liftMap(final Func<A, A> f)
+    {
+        return new Func<Chunk<V, A>, Chunk<V, A>>() {
+            @Override
+            public Chunk<V, A> call(final Chunk<V, A> chunk) {
+                return chunk.map(f);
+            }
+        };
+    }
+}
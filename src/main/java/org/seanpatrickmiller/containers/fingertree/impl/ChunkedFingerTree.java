@@ -0,0 +1,539 @@
+package org.seanpatrickmiller.containers.fingertree.impl;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import org.seanpatrickmiller.containers.util.Func;
+import org.seanpatrickmiller.containers.util.Monoid;
+
+/**
+ * A finger tree whose elements are packed into immutable arrays.
+ *
+ * <p>An ordinary finger tree spends a share of a 2-3 node, a lazy annotation
+ * and the annotation itself on every element. This tree instead keeps an
+ * ordinary finger tree of chunks, each holding up to a fixed number of
+ * elements in a flat array, so those costs are paid once per chunk. The
+ * digits of the underlying tree hold chunks, each chunk caches the measure of
+ * its elements, and walking the elements in order mostly walks along arrays.
+ * Pushing onto either end copies the chunk at that end until it is full, then
+ * starts a new one.</p>
+ *
+ * <p>Since a chunk is just a branch of arbitrary width, finding an element by
+ * position or by measure descends the underlying tree exactly as it would a
+ * tree of elements, and the iterators need no special knowledge of chunks at
+ * all. The complexity of every operation is as for
+ * {@link FingerTree}, with the width of a chunk as an additional constant
+ * factor on operations at the ends.</p>
+ *
+ * @param <V> annotation type
+ * @param <A> element type
+ */
+public final class ChunkedFingerTree<V, A> extends FingerTree<V, A>
+{
+    // The most elements a single chunk may hold.
+    private final int width;
+
+    // The underlying tree, whose elements are chunks.
+    private final FingerTree<V, Chunk<V, A>> chunks;
+
+    ChunkedFingerTree(
+        final Measured<V, A> m,
+        final int width,
+        final FingerTree<V, Chunk<V, A>> chunks)
+    {
+        super(m);
+        this.width = width;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Creates an empty tree.
+     * @param m The measurement to use when annotating the new tree.
+     * @param width The most elements each chunk may hold.
+     * @return A new, empty ChunkedFingerTree.
+     */
+    public static <V, A> ChunkedFingerTree<V, A> empty(
+        final Measured<V, A> m,
+        final int width)
+    {
+        checkWidth(width);
+        return new ChunkedFingerTree<V, A>(
+            m, width, new Empty<V, Chunk<V, A>>(m.chunkMeasured()));
+    }
+
+    /**
+     * Builds a tree from a range of an array in linear time.
+     * Every chunk but the last is filled to the given width.
+     * @param m The measurement to use when annotating the new tree.
+     * @param width The most elements each chunk may hold.
+     * @param xs The elements to store, in order.
+     * @param from The index of the first element to store (inclusive).
+     * @param to The index of the last element to store (exclusive).
+     * @return A new ChunkedFingerTree containing the given elements.
+     */
+    public static <V, A> ChunkedFingerTree<V, A> fromArray(
+        final Measured<V, A> m,
+        final int width,
+        final A[] xs,
+        final int from,
+        final int to)
+    {
+        checkWidth(width);
+        if (from < 0 || to > xs.length || from > to)
+        {
+            throw new java.lang.IndexOutOfBoundsException(
+                "ChunkedFingerTree.fromArray(): bad range [" + from + "," + to + ")");
+        }
+
+        final Chunk<V, A>[] packed = newChunks((to - from + width - 1) / width);
+        for (int k = 0; k < packed.length; ++k)
+        {
+            final int start = from + k * width;
+            packed[k] = new Chunk<V, A>(
+                m, java.util.Arrays.copyOfRange(
+                    xs, start, Math.min(start + width, to), Object[].class));
+        }
+
+        return new ChunkedFingerTree<V, A>(
+            m, width, FingerTree.fromArray(m.chunkMeasured(), packed, 0, packed.length));
+    }
+
+    // Generic arrays cannot be created directly; an array of the raw type
+    // holds exactly the same chunks.
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static <V, A> Chunk<V, A>[] newChunks(final int n)
+    {
+        return (Chunk<V, A>[]) new Chunk[n];
+    }
+
+    // Every element of the tree, in order, in an array that fromArray can
+    // store from. The array really holds Objects, but fromArray only ever
+    // copies out of it, so it never notices.
+    @SuppressWarnings("unchecked")
+    private static <V, A> A[] toArray(final FingerTree<V, A> tree)
+    {
+        final Object[] result = new Object[tree.size()];
+        int k = 0;
+        for (final A a : tree)
+        {
+            result[k++] = a;
+        }
+        return (A[]) result;
+    }
+
+    /**
+     * Appends a chunked tree and an ordinary one, in either order.
+     * The two kinds of tree cannot be joined structurally, so the smaller
+     * side is rebuilt, in linear time, as the same kind as the larger, and
+     * the two are then appended as usual. This costs O(min(<i>n</i><sub>1</sub>,
+     * <i>n</i><sub>2</sub>)) rather than the logarithmic time of appending
+     * trees of the same kind.
+     */
+    static <V, A> FingerTree<V, A> appendMixed(
+        final FingerTree<V, A> left,
+        final FingerTree<V, A> right)
+    {
+        final boolean chunkedLeft = left instanceof ChunkedFingerTree;
+        final ChunkedFingerTree<V, A> chunked =
+            (ChunkedFingerTree<V, A>) (chunkedLeft ? left : right);
+        final FingerTree<V, A> plain = chunkedLeft ? right : left;
+
+        if (plain.size() <= chunked.size())
+        {
+            final A[] xs = toArray(plain);
+            final FingerTree<V, A> converted =
+                fromArray(chunked.m, chunked.width, xs, 0, xs.length);
+            return chunkedLeft ? chunked.append(converted) : converted.append(chunked);
+        }
+
+        final A[] xs = toArray(chunked);
+        final FingerTree<V, A> converted = FingerTree.fromArray(plain.m, xs, 0, xs.length);
+        return chunkedLeft ? converted.append(plain) : plain.append(converted);
+    }
+
+    private static void checkWidth(final int width)
+    {
+        if (width < 2)
+        {
+            throw new java.lang.IllegalArgumentException(
+                "ChunkedFingerTree: width " + width + " must be at least 2");
+        }
+    }
+
+    // Wraps another tree of chunks with the same measurement and width.
+    private ChunkedFingerTree<V, A> with(final FingerTree<V, Chunk<V, A>> chunks)
+    {
+        return new ChunkedFingerTree<V, A>(m, width, chunks);
+    }
+
+    private ChunkedFingerTree<V, A> nil()
+    {
+        return with(new Empty<V, Chunk<V, A>>(m.chunkMeasured()));
+    }
+
+    private Chunk<V, A> first()
+    {
+        return chunks.head();
+    }
+
+    private Chunk<V, A> last()
+    {
+        return chunks.rhead();
+    }
+
+    // The iterators only care about the measurements, which already describe
+    // chunks as nodes of elements, so they can walk the underlying tree as is.
+    @SuppressWarnings("unchecked")
+    private FingerTree<V, A> flattened()
+    {
+        return (FingerTree<V, A>) (FingerTree<?, ?>) chunks;
+    }
+
+    @Override
+    public Spliterator<A> spliterator()
+    {
+        return new FingerTreeSpliterator<V, A>(flattened());
+    }
+
+    @Override
+    FingerTreeIterator<V, A> cursor(final boolean reverse)
+    {
+        return new FingerTreeIterator<V, A>(flattened(), reverse);
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return chunks.isEmpty();
+    }
+
+    @Override
+    public FingerTree<V, A> pushFront(final A x)
+    {
+        if (!chunks.isEmpty())
+        {
+            final Chunk<V, A> first = first();
+            if (first.size < width)
+            {
+                return with(chunks.replaceHead(first.prepend(x)));
+            }
+        }
+
+        return with(chunks.pushFront(Chunk.of(m, x)));
+    }
+
+    @Override
+    public FingerTree<V, A> pushBack(final A x)
+    {
+        if (!chunks.isEmpty())
+        {
+            final Chunk<V, A> last = last();
+            if (last.size < width)
+            {
+                return with(chunks.replaceRhead(last.append(x)));
+            }
+        }
+
+        return with(chunks.pushBack(Chunk.of(m, x)));
+    }
+
+    @Override
+    public View<V, A> viewLeft()
+    {
+        if (chunks.isEmpty())
+            return null;
+
+        return new View<V, A>(head(), tail());
+    }
+
+    @Override
+    public View<V, A> viewRight()
+    {
+        if (chunks.isEmpty())
+            return null;
+
+        return new View<V, A>(rhead(), rtail());
+    }
+
+    @Override
+    public A head()
+    {
+        return first().child(0);
+    }
+
+    @Override
+    public FingerTree<V, A> tail()
+    {
+        final Chunk<V, A> first = first();
+        if (1 == first.size)
+            return with(chunks.tail());
+
+        return with(chunks.replaceHead(first.slice(1, first.size)));
+    }
+
+    @Override
+    public A rhead()
+    {
+        final Chunk<V, A> last = last();
+        return last.child(last.size - 1);
+    }
+
+    @Override
+    public FingerTree<V, A> rtail()
+    {
+        final Chunk<V, A> last = last();
+        if (1 == last.size)
+            return with(chunks.rtail());
+
+        return with(chunks.replaceRhead(last.slice(0, last.size - 1)));
+    }
+
+    @Override
+    public FingerTree<V, A> reverse(final Func<A, A> f)
+    {
+        return with(chunks.reverse(Chunk.<V, A>liftReverse(f)));
+    }
+
+    @Override
+    public <B> FingerTree<V, B> map(final Func<A, B> f, final Measured<V, B> m)
+    {
+        return new ChunkedFingerTree<V, B>(
+            m, width, chunks.map(Chunk.<V, A, B>liftMap(f, m), m.chunkMeasured()));
+    }
+
+    @Override
+    public FingerTree<V, A> map(final Func<A, A> f)
+    {
+        return with(chunks.map(Chunk.<V, A>liftMap(f)));
+    }
+
+    @Override
+    <B> FingerTree<V, B> parallelMapHelper(final Func<A, B> f, final Measured<V, B> m)
+    {
+        return new ChunkedFingerTree<V, B>(m, width, chunks.parallelMapHelper(
+            Chunk.<V, A, B>liftParallelMap(f, m), m.chunkMeasured()));
+    }
+
+    @Override
+    public <B> B reduce(final Monoid<B> monoid, final Func<A, B> f)
+    {
+        return chunks.reduce(monoid, Branch.<V, A, B, Chunk<V, A>>liftReduce(monoid, f));
+    }
+
+    @Override
+    <B> B parallelReduceHelper(final Monoid<B> monoid, final Func<A, B> f)
+    {
+        return chunks.parallelReduceHelper(
+            monoid, Branch.<V, A, B, Chunk<V, A>>liftParallelReduce(monoid, f));
+    }
+
+    @Override
+    public <B> B foldRight(final Func<A, Func<B, B>> f, final B zero)
+    {
+        return chunks.foldRight(Func.flip(Branch.<V, A, B, Chunk<V, A>>liftFoldRight(f)), zero);
+    }
+
+    @Override
+    public <B> B foldLeft(final Func<B, Func<A, B>> f, final B zero)
+    {
+        return chunks.foldLeft(Branch.<V, A, B, Chunk<V, A>>liftFoldLeft(f), zero);
+    }
+
+    @Override
+    public <B> B foldRight(final BiFunction<? super A, B, B> f, final B zero)
+    {
+        return chunks.foldRight(Branch.<V, A, B, Chunk<V, A>>liftFoldRight(f), zero);
+    }
+
+    @Override
+    public <B> B foldLeft(final BiFunction<B, ? super A, B> f, final B zero)
+    {
+        return chunks.foldLeft(Branch.<V, A, B, Chunk<V, A>>liftFoldLeft(f), zero);
+    }
+
+    @Override
+    public FingerTree<V, A> append(final FingerTree<V, A> that)
+    {
+        if (that.isEmpty())
+            return this;
+
+        if (that instanceof Single)
+            return pushBack(that.head());
+
+        if (!(that instanceof ChunkedFingerTree))
+            return appendMixed(this, that);
+
+        final FingerTree<V, Chunk<V, A>> other = ((ChunkedFingerTree<V, A>) that).chunks;
+        if (chunks.isEmpty())
+            return with(other);
+
+        // Merge the chunks that meet in the middle if they fit in one, so
+        // repeated splitting and appending does not litter the tree with
+        // slivers.
+        final Chunk<V, A> last = last();
+        final Chunk<V, A> first = other.head();
+        if (last.size + first.size <= width)
+            return with(chunks.replaceRhead(last.concat(first)).append(other.tail()));
+
+        return with(chunks.append(other));
+    }
+
+    @Override
+    public FingerTree<V, A> appendAll(final A[] xs, final int from, final int to)
+    {
+        return append(fromArray(m, width, xs, from, to));
+    }
+
+    @Override
+    public V measure()
+    {
+        return chunks.measure();
+    }
+
+    @Override
+    public int size()
+    {
+        return chunks.size();
+    }
+
+    @Override
+    public SplitPair<V, A> split(final Func<V, Boolean> pred)
+    {
+        if (chunks.isEmpty())
+            return new SplitPair<V, A>(this, this);
+        else if (pred.call(measure()))
+        {
+            final Split<FingerTree<V, A>, A> s = splitHelper(pred, m.zero());
+            return new SplitPair<V, A>(s.left, s.right.pushFront(s.value));
+        }
+        else
+            return new SplitPair<V, A>(this, nil());
+    }
+
+    @Override
+    public SplitPair<V, A> splitAt(final int index)
+    {
+        if (index <= 0)
+            return new SplitPair<V, A>(nil(), this);
+        else if (index < size())
+        {
+            final Split<FingerTree<V, A>, A> s = splitAtHelper(index);
+            return new SplitPair<V, A>(s.left, s.right.pushFront(s.value));
+        }
+        else
+            return new SplitPair<V, A>(this, nil());
+    }
+
+    @Override
+    public FingerTree<V, A> slice(final int from, final int to)
+    {
+        final int lo = Math.max(from, 0);
+        final int hi = Math.min(to, size());
+        if (lo >= hi)
+            return nil();
+        else if (0 == lo && size() == hi)
+            return this;
+
+        final Slice<V, A> s = sliceHelper(lo, hi - 1);
+        return (null == s.middle) ?
+            with(new Single<V, Chunk<V, A>>(m.chunkMeasured(), Chunk.of(m, s.first))) :
+            s.middle.pushFront(s.first).pushBack(s.last);
+    }
+
+    // Splits so that the k-th element of the chunk is set apart.
+    private Split<FingerTree<V, A>, A> extract(
+        final FingerTree<V, Chunk<V, A>> left,
+        final Chunk<V, A> chunk,
+        final int k,
+        final FingerTree<V, Chunk<V, A>> right)
+    {
+        return new Split<FingerTree<V, A>, A>(
+            with(0 == k ? left : left.pushBack(chunk.slice(0, k))),
+            chunk.child(k),
+            with(chunk.size - 1 == k ? right : right.pushFront(chunk.slice(k + 1, chunk.size))));
+    }
+
+    private V prefix(final V i, final FingerTree<V, Chunk<V, A>> left)
+    {
+        return left.isEmpty() ? i : m.sum(i, left.measure());
+    }
+
+    @Override
+    Split<FingerTree<V, A>, A> splitHelper(final Func<V, Boolean> pred, final V i)
+    {
+        final Split<FingerTree<V, Chunk<V, A>>, Chunk<V, A>> s = chunks.splitHelper(pred, i);
+        final Chunk<V, A> chunk = s.value;
+        return extract(s.left, chunk, chunk.find(pred, prefix(i, s.left)), s.right);
+    }
+
+    @Override
+    Split<FingerTree<V, A>, A> splitAtHelper(final int i)
+    {
+        final Split<FingerTree<V, Chunk<V, A>>, Chunk<V, A>> s = chunks.splitAtHelper(i);
+        return extract(s.left, s.value, i - s.left.size(), s.right);
+    }
+
+    // Sets apart the elements at from and last, keeping whatever lies
+    // between them in chunks.
+    @Override
+    Slice<V, A> sliceHelper(final int from, final int last)
+    {
+        final Slice<V, Chunk<V, A>> s = chunks.sliceHelper(from, last);
+        final Chunk<V, A> first = s.first;
+        if (from == last)
+            return new Slice<V, A>(first.child(s.i), 0, null, first.child(s.i), 0);
+
+        FingerTree<V, Chunk<V, A>> middle;
+        if (null == s.middle)
+        {
+            middle = (s.j - s.i > 1) ?
+                new Single<V, Chunk<V, A>>(m.chunkMeasured(), first.slice(s.i + 1, s.j)) :
+                new Empty<V, Chunk<V, A>>(m.chunkMeasured());
+            return new Slice<V, A>(first.child(s.i), 0, with(middle), first.child(s.j), 0);
+        }
+
+        middle = s.middle;
+        if (s.i + 1 < first.size)
+            middle = middle.pushFront(first.slice(s.i + 1, first.size));
+        if (s.j > 0)
+            middle = middle.pushBack(s.last.slice(0, s.j));
+        return new Slice<V, A>(first.child(s.i), 0, with(middle), s.last.child(s.j), 0);
+    }
+
+    @Override
+    Object lookupHelper(final Func<V, Boolean> pred, final V i)
+    {
+        return chunks.lookupHelper(pred, i);
+    }
+
+    @Override
+    FingerTree<V, A> adjustHelper(final int i, final Func<Object, Object> f)
+    {
+        return with(chunks.adjustHelper(i, f));
+    }
+
+    @Override
+    Object atHelper(final int i)
+    {
+        return chunks.atHelper(i);
+    }
+
+    @Override
+    FingerTree<V, A> replaceHead(final A x)
+    {
+        return with(chunks.replaceHead(first().replace(0, x)));
+    }
+
+    @Override
+    FingerTree<V, A> replaceRhead(final A x)
+    {
+        final Chunk<V, A> last = last();
+        return with(chunks.replaceRhead(last.replace(last.size - 1, x)));
+    }
+
+    @Override
+    public java.lang.String toString()
+    {
+        return "Chunked(" + chunks + ")";
+    }
+}
@@ -1,8 +1,13 @@
 package org.seanpatrickmiller.containers.fingertree.impl;
 
 import com.google.common.base.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
 import org.seanpatrickmiller.containers.util.Func;
-import org.seanpatrickmiller.containers.util.Lazy;
+import org.seanpatrickmiller.containers.util.Monoid;
+import org.seanpatrickmiller.containers.util.RacyLazy;
 
 /**
  * A full-fledged finger tree that is neither empty nor singleton.
@@ -10,15 +15,17 @@ import org.seanpatrickmiller.containers.util.Lazy;
  */
 final class Deep<V, A> extends FingerTree<V, A>
 {
-    final Lazy<V> v;
+    final Object v;
     final Digit<V, A> left;
     final FingerTree<V, Node<V, A>> mid;
     final Digit<V, A> right;
+    final int size;
 
     /**
      * Constructs an instance of Deep.
-     * The monoidal sum of child measurements is suspended in an instance of
-     * {@link org.seanpatrickmiller.containers.util.Lazy}, which will defer
+     * Unless the measurement is strict, the monoidal sum of child
+     * measurements is suspended in an instance of
+     * {@link org.seanpatrickmiller.containers.util.RacyLazy}, which will defer
      * evaluation until the user requests the result of measurement.
      * @param m
      * @param left
@@ -32,18 +39,19 @@ final class Deep<V, A> extends FingerTree<V, A>
     {
         super(m);
 
-        this.v = new Lazy<V>() {
-            @Override
-            protected V eval()
-            {
-                return m.sum(
-                    left.measure(),
-                    m.sum(mid.measure(), right.measure()));
-            }
-        };
+        this.v = m.isStrict() ?
+            sum(m, left, mid, right) :
+            new RacyLazy<V>() {
+                @Override
+                protected V eval()
+                {
+                    return sum(m, left, mid, right);
+                }
+            };
         this.left = left;
         this.mid = mid;
         this.right = right;
+        this.size = left.size + mid.size() + right.size;
     }
 
     @Override
@@ -113,7 +121,15 @@ final class Deep<V, A> extends FingerTree<V, A>
     @Override
     public FingerTree<V, A> tail()
     {
-        return viewLeft().tail;
+        // Same as viewLeft().tail, without building the View.
+        if (left instanceof One)
+        {
+            return mid.isEmpty() ?
+                right.toTree() :
+                new Deep<V, A>(m, mid.head().toDigit(), mid.tail(), right);
+        }
+
+        return new Deep<V, A>(m, left.tail(), mid, right);
     }
 
     @Override
@@ -125,7 +141,15 @@ final class Deep<V, A> extends FingerTree<V, A>
     @Override
     public FingerTree<V, A> rtail()
     {
-        return viewRight().tail;
+        // Same as viewRight().tail, without building the View.
+        if (right instanceof One)
+        {
+            return mid.isEmpty() ?
+                left.toTree() :
+                new Deep<V, A>(m, left, mid.rtail(), mid.rhead().toDigit());
+        }
+
+        return new Deep<V, A>(m, left, mid, right.rtail());
     }
 
     @Override
@@ -158,12 +182,60 @@ final class Deep<V, A> extends FingerTree<V, A>
             right.map(f));
     }
 
+    @Override
+    <B> FingerTree<V, B> parallelMapHelper(final Func<A, B> f, final Measured<V, B> m)
+    {
+        // The middle holds nearly everything, so it goes to another thread
+        // while this one maps the digits.
+        final ForkJoinTask<FingerTree<V, Node<V, B>>> task =
+            ForkJoinTask.adapt(new Callable<FingerTree<V, Node<V, B>>>() {
+                @Override
+                public FingerTree<V, Node<V, B>> call()
+                {
+                    return mid.parallelMapHelper(
+                        Node.<V,A,B>liftParallelMap(f, m), m.nodeMeasured());
+                }
+            }).fork();
+
+        final Digit<V, B> l = left.map(f, m);
+        final Digit<V, B> r = right.map(f, m);
+        return new Deep<V, B>(m, l, task.join(), r);
+    }
+
+    @Override
+    public <B> B reduce(final Monoid<B> monoid, final Func<A, B> f)
+    {
+        return monoid.sum(
+            monoid.sum(
+                left.reduce(monoid, f),
+                mid.reduce(monoid, Branch.<V, A, B, Node<V, A>>liftReduce(monoid, f))),
+            right.reduce(monoid, f));
+    }
+
+    @Override
+    <B> B parallelReduceHelper(final Monoid<B> monoid, final Func<A, B> f)
+    {
+        final RecursiveTask<B> task = new RecursiveTask<B>() {
+            @Override
+            protected B compute()
+            {
+                return mid.parallelReduceHelper(
+                    monoid, Branch.<V, A, B, Node<V, A>>liftParallelReduce(monoid, f));
+            }
+        };
+        task.fork();
+
+        final B l = left.reduce(monoid, f);
+        final B r = right.reduce(monoid, f);
+        return monoid.sum(monoid.sum(l, task.join()), r);
+    }
+
     @Override
     public <B> B foldRight(final Func<A, Func<B, B>> f, final B zero)
     {
         return left.foldRight(
             f,
-            mid.foldRight(Func.flip(Node.<V,A,B>liftFoldRight(f)),
+            mid.foldRight(Func.flip(Branch.<V, A, B, Node<V, A>>liftFoldRight(f)),
             right.foldRight(f, zero)));
     }
 
@@ -172,7 +244,25 @@ final class Deep<V, A> extends FingerTree<V, A>
     {
         return right.foldLeft(
             f,
-            mid.foldLeft(Node.<V,A,B>liftFoldLeft(f),
+            mid.foldLeft(Branch.<V, A, B, Node<V, A>>liftFoldLeft(f),
+            left.foldLeft(f, zero)));
+    }
+
+    @Override
+    public <B> B foldRight(final BiFunction<? super A, B, B> f, final B zero)
+    {
+        return left.foldRight(
+            f,
+            mid.foldRight(Branch.<V, A, B, Node<V, A>>liftFoldRight(f),
+            right.foldRight(f, zero)));
+    }
+
+    @Override
+    public <B> B foldLeft(final BiFunction<B, ? super A, B> f, final B zero)
+    {
+        return right.foldLeft(
+            f,
+            mid.foldLeft(Branch.<V, A, B, Node<V, A>>liftFoldLeft(f),
             left.foldLeft(f, zero)));
     }
 
@@ -188,6 +278,10 @@ final class Deep<V, A> extends FingerTree<V, A>
         {
             return pushBack(((Single<V, A>)that).val);
         }
+        else if (that instanceof ChunkedFingerTree)
+        {
+            return ChunkedFingerTree.appendMixed(this, that);
+        }
         else
         {
             final Deep<V, A> yss = (Deep<V, A>)that;
@@ -203,7 +297,7 @@ final class Deep<V, A> extends FingerTree<V, A>
     @Override
     public V measure()
     {
-        return v.getValue();
+        return m.annotation(v);
     }
 
     @Override
@@ -245,6 +339,122 @@ final class Deep<V, A> extends FingerTree<V, A>
                 temp.right.toTree());
     }
 
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    Split<FingerTree<V, A>, A> splitAtHelper(final int i)
+    {
+        if (i < left.size)
+        {
+            final Split<Digit<V, A>, A> temp = left.splitAt(i);
+            return new Split<FingerTree<V, A>, A>(
+                (null == temp.left) ?
+                    new Empty<V, A>(m) :
+                    temp.left.toTree(),
+                temp.value,
+                deepL(m, temp.right, mid, right));
+        }
+
+        final int im = i - left.size;
+        if (im < mid.size())
+        {
+            final Split<FingerTree<V, Node<V, A>>, Node<V, A>> mtemp =
+                mid.splitAtHelper(im);
+            final Split<Digit<V, A>, A> temp =
+                mtemp.value.splitAt(im - mtemp.left.size());
+
+            return new Split<FingerTree<V, A>, A>(
+                deepR(m, left, mtemp.left, temp.left),
+                temp.value,
+                deepL(m, temp.right, mtemp.right, right));
+        }
+
+        final Split<Digit<V, A>, A> temp = right.splitAt(im - mid.size());
+        return new Split<FingerTree<V, A>, A>(
+            deepR(m, left, mid, temp.left),
+            temp.value,
+            (null == temp.right) ?
+                new Empty<V, A>(m) :
+                temp.right.toTree());
+    }
+
+    @Override
+    Object lookupHelper(final Func<V, Boolean> pred, final V i)
+    {
+        final V vpr = m.sum(i, left.measure());
+        if (pred.call(vpr))
+        {
+            return left.lookup(pred, i);
+        }
+
+        final V vm = m.sum(vpr, mid.measure());
+        if (pred.call(vm))
+        {
+            return mid.lookupHelper(pred, vpr);
+        }
+
+        return right.lookup(pred, vm);
+    }
+
+    @Override
+    Object atHelper(final int i)
+    {
+        if (i < left.size)
+        {
+            return left.at(i);
+        }
+
+        final int im = i - left.size;
+        if (im < mid.size())
+        {
+            return mid.atHelper(im);
+        }
+
+        return right.at(im - mid.size());
+    }
+
+    @Override
+    FingerTree<V, A> adjustHelper(final int i, final Func<Object, Object> f)
+    {
+        if (i < left.size)
+        {
+            return new Deep<V, A>(m, left.adjust(i, f), mid, right);
+        }
+
+        final int im = i - left.size;
+        if (im < mid.size())
+        {
+            return new Deep<V, A>(m, left, mid.adjustHelper(im, f), right);
+        }
+
+        return new Deep<V, A>(m, left, mid, right.adjust(im - mid.size(), f));
+    }
+
+    @Override
+    FingerTree<V, A> replaceHead(final A x)
+    {
+        return new Deep<V, A>(m, left.replaceHead(x), mid, right);
+    }
+
+    @Override
+    FingerTree<V, A> replaceRhead(final A x)
+    {
+        return new Deep<V, A>(m, left, mid, right.replaceRhead(x));
+    }
+
+    private static <V, A> V sum(
+        final Measured<V, A> m,
+        final Digit<V, A> left,
+        final FingerTree<V, Node<V, A>> mid,
+        final Digit<V, A> right)
+    {
+        return m.sum(left.measure(), m.sum(mid.measure(), right.measure()));
+    }
+
     private static <V, A> V mappendVal(final V v, final FingerTree<V, A> t)
     {
         return (t instanceof Empty) ?
@@ -252,6 +462,120 @@ final class Deep<V, A> extends FingerTree<V, A>
             t.m.sum(v, t.measure());
     }
 
+    @Override
+    Slice<V, A> sliceHelper(final int from, final int last)
+    {
+        final int ls = left.size;
+        final int ms = mid.size();
+
+        // Both ends within one part of this tree.
+        if (last < ls)
+            return sliceDigit(m, left.splitAt(from), from, last);
+        else if (from >= ls + ms)
+            return sliceDigit(m, right.splitAt(from - ls - ms), from - ls - ms, last - ls - ms);
+        else if (from >= ls && last < ls + ms)
+        {
+            final Slice<V, Node<V, A>> s = mid.sliceHelper(from - ls, last - ls);
+            if (null == s.middle)
+                return sliceDigit(m, s.first.splitAt(s.i), s.i, s.j);
+
+            final Split<Digit<V, A>, A> a = s.first.splitAt(s.i);
+            final Split<Digit<V, A>, A> b = s.last.splitAt(s.j);
+            return new Slice<V, A>(
+                a.value, s.i - sizeOf(a.left),
+                deep(m, a.right, s.middle, b.left),
+                b.value, s.j - sizeOf(b.left));
+        }
+
+        // The ends lie in different parts, so each cut needs only one side.
+        final Split<Digit<V, A>, A> a;
+        final int i;
+        final FingerTree<V, Node<V, A>> rest;
+        if (from < ls)
+        {
+            a = left.splitAt(from);
+            i = from;
+            rest = mid;
+        }
+        else
+        {
+            final Split<FingerTree<V, Node<V, A>>, Node<V, A>> mtemp =
+                mid.splitAtHelper(from - ls);
+            i = from - ls - mtemp.left.size();
+            a = mtemp.value.splitAt(i);
+            rest = mtemp.right;
+        }
+
+        final Split<Digit<V, A>, A> b;
+        final int j;
+        final FingerTree<V, Node<V, A>> between;
+        if (last >= ls + ms)
+        {
+            j = last - ls - ms;
+            b = right.splitAt(j);
+            between = rest;
+        }
+        else
+        {
+            // Only reachable when the first cut was in the left digit, so the
+            // whole of the middle tree is still available to cut.
+            final Split<FingerTree<V, Node<V, A>>, Node<V, A>> mtemp =
+                mid.splitAtHelper(last - ls);
+            j = last - ls - mtemp.left.size();
+            b = mtemp.value.splitAt(j);
+            between = mtemp.left;
+        }
+
+        return new Slice<V, A>(
+            a.value, i - sizeOf(a.left),
+            deep(m, a.right, between, b.left),
+            b.value, j - sizeOf(b.left));
+    }
+
+    // Finishes a slice whose ends lie in the same digit, given the split of
+    // that digit at the first position.
+    private static <V, A> Slice<V, A> sliceDigit(
+        final Measured<V, A> m,
+        final Split<Digit<V, A>, A> a,
+        final int from,
+        final int last)
+    {
+        final int start = sizeOf(a.left);
+        final int end = start + m.size(a.value);
+        if (last < end)
+            return new Slice<V, A>(a.value, from - start, null, a.value, last - start);
+
+        final Split<Digit<V, A>, A> b = a.right.splitAt(last - end);
+        return new Slice<V, A>(
+            a.value, from - start,
+            (null == b.left) ? new Empty<V, A>(m) : b.left.toTree(),
+            b.value, last - end - sizeOf(b.left));
+    }
+
+    private static int sizeOf(final Digit<?, ?> digit)
+    {
+        return (null == digit) ? 0 : digit.size;
+    }
+
+    // Like deepL and deepR, but either digit may be missing.
+    private static <V, A> FingerTree<V, A> deep(
+        final Measured<V, A> m,
+        final Digit<V, A> pr,
+        final FingerTree<V, Node<V, A>> mid,
+        final Digit<V, A> sf)
+    {
+        if (null == pr)
+        {
+            final View<V, Node<V, A>> vleft = mid.viewLeft();
+            if (null == vleft)
+                return (null == sf) ? new Empty<V, A>(m) : sf.toTree();
+
+            return deepR(m, vleft.head.toDigit(), vleft.tail, sf);
+        }
+        else
+            return deepR(m, pr, mid, sf);
+    }
+
     private static <V, A> FingerTree<V, A> deepL(
         final Measured<V, A> m,
         final Digit<V, A> pr,
@@ -1,29 +1,31 @@
 package org.seanpatrickmiller.containers.fingertree.impl;
 
+import java.util.function.BiFunction;
 import org.seanpatrickmiller.containers.util.Func;
-import org.seanpatrickmiller.containers.util.Lazy;
+import org.seanpatrickmiller.containers.util.Monoid;
+import org.seanpatrickmiller.containers.util.RacyLazy;
 
 abstract class Digit<V, A>
 {
     protected final Measured<V, A> m;
-    private final Lazy<V> v;
+    // The annotation, as prepared for the measurement.
+    private final Object v;
+    final int size;
 
-    Digit(final Measured<V, A> m)
+    // Subclasses pass their annotation in if the measurement is strict, since
+    // their children are not yet assigned at this point.
+    Digit(final Measured<V, A> m, final int size, final V strict)
     {
         this.m = m;
-        this.v = new Lazy<V>() {
+        this.size = size;
+        this.v = m.isStrict() ? strict : new RacyLazy<V>() {
             @Override
             protected V eval()
             {
-                return foldLeft(new Func<V, Func<A, V>>() {
+                return foldLeft(new BiFunction<V, A, V>() {
                     @Override
-                    public Func<A, V> call(final V v) {
-                        return new Func<A, V>() {
-                            @Override
-                            public V call(final A a) {
-                                return m.sum(v, m.measure(a));
-                            }
-                        };
+                    public V apply(final V v, final A a) {
+                        return m.sum(v, m.measure(a));
                     }
                 }, m.zero());
             }
@@ -50,14 +52,44 @@ abstract class Digit<V, A>
 
     abstract <B> B foldLeft(final Func<B, Func<A, B>> f, final B zero);
 
+    abstract <B> B foldRight(final BiFunction<? super A, B, B> f, final B zero);
+
+    abstract <B> B foldLeft(final BiFunction<B, ? super A, B> f, final B zero);
+
     abstract Split<Digit<V, A>, A> split(
         final Func<V, Boolean> pred,
         final V measure);
 
+    abstract Split<Digit<V, A>, A> splitAt(final int i);
+
+    abstract Object lookup(final Func<V, Boolean> pred, final V i);
+
+    abstract Object at(final int i);
+
+    abstract int arity();
+
+    abstract A child(final int k);
+
+    <B> B reduce(final Monoid<B> monoid, final Func<A, B> f)
+    {
+        B result = f.call(child(0));
+        for (int k = 1; k < arity(); ++k)
+        {
+            result = monoid.sum(result, f.call(child(k)));
+        }
+        return result;
+    }
+
     abstract FingerTree<V, A> toTree();
 
     abstract A head();
 
+    abstract Digit<V, A> adjust(final int i, final Func<Object, Object> f);
+
+    abstract Digit<V, A> replaceHead(final A x);
+
+    abstract Digit<V, A> replaceRhead(final A x);
+
     abstract Digit<V, A> tail();
 
     abstract A rhead();
@@ -66,6 +98,6 @@ abstract class Digit<V, A>
 
     V measure()
     {
-        return v.getValue();
+        return m.annotation(v);
     }
 }
@@ -1,6 +1,8 @@
 package org.seanpatrickmiller.containers.fingertree.impl;
 
+import java.util.function.BiFunction;
 import org.seanpatrickmiller.containers.util.Func;
+import org.seanpatrickmiller.containers.util.Monoid;
 
 public final class Empty<V, A> extends FingerTree<V, A>
 {
@@ -86,6 +88,24 @@ public final class Empty<V, A> extends FingerTree<V, A>
         return this;
     }
 
+    @Override
+    <B> FingerTree<V, B> parallelMapHelper(final Func<A, B> f, final Measured<V, B> m)
+    {
+        return map(f, m);
+    }
+
+    @Override
+    public <B> B reduce(final Monoid<B> monoid, final Func<A, B> f)
+    {
+        return monoid.zero();
+    }
+
+    @Override
+    <B> B parallelReduceHelper(final Monoid<B> monoid, final Func<A, B> f)
+    {
+        return reduce(monoid, f);
+    }
+
     @Override
     public <B> B foldRight(final Func<A, Func<B, B>> f, final B zero)
     {
@@ -98,6 +118,18 @@ public final class Empty<V, A> extends FingerTree<V, A>
         return zero;
     }
 
+    @Override
+    public <B> B foldRight(final BiFunction<? super A, B, B> f, final B zero)
+    {
+        return zero;
+    }
+
+    @Override
+    public <B> B foldLeft(final BiFunction<B, ? super A, B> f, final B zero)
+    {
+        return zero;
+    }
+
     @Override
     public FingerTree<V, A> append(final FingerTree<V, A> that)
     {
@@ -110,6 +142,61 @@ public final class Empty<V, A> extends FingerTree<V, A>
         return m.zero();
     }
 
+    @Override
+    public int size()
+    {
+        return 0;
+    }
+
+    @Override
+    Split<FingerTree<V, A>, A> splitAtHelper(final int i)
+    {
+        throw new java.lang.UnsupportedOperationException(
+            "Empty.splitAtHelper(): cannot call");
+    }
+
+    @Override
+    Object lookupHelper(final Func<V, Boolean> pred, final V i)
+    {
+        throw new java.lang.UnsupportedOperationException(
+            "Empty.lookupHelper(): cannot call");
+    }
+
+    @Override
+    Slice<V, A> sliceHelper(final int from, final int last)
+    {
+        throw new java.lang.UnsupportedOperationException(
+            "Empty.sliceHelper(): cannot call");
+    }
+
+    @Override
+    FingerTree<V, A> adjustHelper(final int i, final Func<Object, Object> f)
+    {
+        throw new java.lang.UnsupportedOperationException(
+            "Empty.adjustHelper(): cannot call");
+    }
+
+    @Override
+    Object atHelper(final int i)
+    {
+        throw new java.lang.UnsupportedOperationException(
+            "Empty.atHelper(): cannot call");
+    }
+
+    @Override
+    FingerTree<V, A> replaceHead(final A x)
+    {
+        throw new java.lang.UnsupportedOperationException(
+            "Empty.replaceHead(): cannot call");
+    }
+
+    @Override
+    FingerTree<V, A> replaceRhead(final A x)
+    {
+        throw new java.lang.UnsupportedOperationException(
+            "Empty.replaceRhead(): cannot call");
+    }
+
     @Override
     Split<FingerTree<V, A>, A> splitHelper(
         final Func<V, Boolean> pred,
@@ -1,7 +1,14 @@
 package org.seanpatrickmiller.containers.fingertree.impl;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
 import org.seanpatrickmiller.containers.util.Func;
+import org.seanpatrickmiller.containers.util.Monoid;
 
 /**
  * An immutable, fully-persistent 2-3 tree with fixed-size (1-4 elements)
@@ -38,8 +45,11 @@ import org.seanpatrickmiller.containers.util.Func;
  *   <tr><td>fold-right</td><td>O(<i>n</i>)</td></tr>
  *   <tr><td>append</td><td>O(log<sub>2</sub>(min(<i>n</i><sub>1</sub>,
  *       <i>n</i><sub>2</sub>)))</td></tr>
+ *   <tr><td>concat-all (<i>k</i> trees)</td><td>O(<i>k</i>
+ *       log<sub>2</sub>(<i>n</i>))</td></tr>
  *   <tr><td>is-empty</td><td>O(1)</td></tr>
  *   <tr><td>measure</td><td>O(1)</td></tr>
+ *   <tr><td>size</td><td>O(1)</td></tr>
  *   <tr><td>split</td><td>O(log<sub>2</sub>(min(<i>i</i>,
  *       <i>n</i> - <i>i</i>)))</td></tr>
  * </table>
@@ -76,7 +86,45 @@ public abstract class FingerTree<V, A> implements java.lang.Iterable<A>
     @Override
     public Iterator<A> iterator()
     {
-        return new FingerTreeIterator<V, A>(this);
+        return cursor(false);
+    }
+
+    @Override
+    public Spliterator<A> spliterator()
+    {
+        return new FingerTreeSpliterator<V, A>(this);
+    }
+
+    /**
+     * Iterates over this tree from right to left.
+     * @return An iterator that yields the rightmost element first.
+     */
+    public Iterator<A> descendingIterator()
+    {
+        return cursor(true);
+    }
+
+    // Start walking the elements of this tree from either end.
+    FingerTreeIterator<V, A> cursor(final boolean reverse)
+    {
+        return new FingerTreeIterator<V, A>(this, reverse);
+    }
+
+    /**
+     * Element-wise equality.
+     * Both trees are walked in place and in step, and wherever the two share
+     * a subtree at the same position, the walk skips over it without looking
+     * inside, so comparing a tree with an edited copy of itself mostly costs
+     * as much as the edits did. The walk allocates nothing once its stacks
+     * have grown to fit.
+     * @param that Some other tree.
+     * @return true if both trees contain equal elements in the same order;
+     * otherwise, false.
+     */
+    public boolean elementsEqual(final FingerTree<?, ?> that)
+    {
+        return this == that || (size() == that.size() &&
+            FingerTreeIterator.sameElements(cursor(false), that.cursor(false)));
     }
 
     /**
@@ -161,6 +209,32 @@ public abstract class FingerTree<V, A> implements java.lang.Iterable<A>
      */
     public abstract FingerTree<V, A> map(final Func<A, A> f);
 
+    /**
+     * Applies a function to each element in this tree, spreading the work
+     * over a pool. The middle of every level is mapped in a task of its own
+     * while its digits are mapped in place, and large nodes map each of their
+     * children in a separate task, so the work divides along the existing
+     * structure of the tree. The result has the same shape as this tree.
+     * @param f The function to apply to each element, which must be safe to
+     * call from several threads at once.
+     * @param m The measurement to use when annotating the new tree.
+     * @param pool The pool in which to run the work.
+     * @return a new FingerTree containing the results of application of f to each element in this FingerTree
+     */
+    public <B> FingerTree<V, B> parallelMap(
+        final Func<A, B> f,
+        final Measured<V, B> m,
+        final ForkJoinPool pool)
+    {
+        return pool.invoke(ForkJoinTask.adapt(new Callable<FingerTree<V, B>>() {
+            @Override
+            public FingerTree<V, B> call()
+            {
+                return parallelMapHelper(f, m);
+            }
+        }));
+    }
+
     /**
      * Right-to-left accumulation.
      * @return the right-to-left accumulation of the elements of this FingerTree by function f with base case zero
@@ -173,6 +247,57 @@ public abstract class FingerTree<V, A> implements java.lang.Iterable<A>
      */
     public abstract <B> B foldLeft(final Func<B, Func<A, B>> f, final B zero);
 
+    /**
+     * Right-to-left accumulation, by a function that takes both arguments in
+     * one call rather than building a closure per element.
+     * @return the right-to-left accumulation of the elements of this FingerTree by function f with base case zero
+     */
+    public abstract <B> B foldRight(final BiFunction<? super A, B, B> f, final B zero);
+
+    /**
+     * Left-to-right accumulation, by a function that takes both arguments in
+     * one call rather than building a closure per element.
+     * @return the left-to-right accumulation of the elements of this FingerTree by function f with base case zero
+     */
+    public abstract <B> B foldLeft(final BiFunction<B, ? super A, B> f, final B zero);
+
+    /**
+     * Associative accumulation.
+     * Since the monoid's operation is associative, the elements can be
+     * combined in whatever grouping the tree already has, so no closures are
+     * built along the way.
+     * @param monoid The monoid with which to combine the results.
+     * @param f The function to apply to each element.
+     * @return the sum under the monoid of f applied to each element of this FingerTree, in order
+     */
+    public abstract <B> B reduce(final Monoid<B> monoid, final Func<A, B> f);
+
+    /**
+     * Associative accumulation, spreading the work over a pool.
+     * The middle of every level is reduced in a task of its own while its
+     * digits are reduced in place, and large nodes reduce each of their
+     * children in a separate task.
+     * @param monoid The monoid with which to combine the results, whose
+     * operation must be safe to call from several threads at once.
+     * @param f The function to apply to each element, which must be safe to
+     * call from several threads at once.
+     * @param pool The pool in which to run the work.
+     * @return the sum under the monoid of f applied to each element of this FingerTree, in order
+     */
+    public <B> B parallelReduce(
+        final Monoid<B> monoid,
+        final Func<A, B> f,
+        final ForkJoinPool pool)
+    {
+        return pool.invoke(new RecursiveTask<B>() {
+            @Override
+            protected B compute()
+            {
+                return parallelReduceHelper(monoid, f);
+            }
+        });
+    }
+
     /**
      * Concatenation.
      * @return the concatenation of this and that
@@ -187,6 +312,15 @@ public abstract class FingerTree<V, A> implements java.lang.Iterable<A>
      */
     public abstract V measure();
 
+    /**
+     * Yields the number of elements cached at root.
+     * Every node counts the elements beneath it in a plain int as it is
+     * constructed, independently of the annotation, so this never touches
+     * the monoid.
+     * @return the number of elements in this FingerTree
+     */
+    public abstract int size();
+
     /**
      * Public-facing wrapper for the results of the split operation.
      */
@@ -219,10 +353,318 @@ public abstract class FingerTree<V, A> implements java.lang.Iterable<A>
             return new SplitPair<V, A>(this, new Empty<V, A>(m));
     }
 
+    /**
+     * Splits the tree at the given position.
+     * This is equivalent to splitting with a predicate that compares a count
+     * of elements against the index, but it descends using the sizes cached
+     * in each node, so it neither consults the monoid nor boxes anything.
+     * @param index The number of elements to leave in the left-hand tree.
+     */
+    public SplitPair<V, A> splitAt(final int index)
+    {
+        if (index <= 0)
+            return new SplitPair<V, A>(new Empty<V, A>(m), this);
+        else if (index < size())
+        {
+            final Split<FingerTree<V, A>, A> result = splitAtHelper(index);
+            return new SplitPair<V, A>(result.left, result.right.pushFront(result.value));
+        }
+        else
+            return new SplitPair<V, A>(this, new Empty<V, A>(m));
+    }
+
+    /**
+     * Extracts the elements at positions from (inclusive) to to (exclusive).
+     * Rather than splitting twice and discarding a side each time, this
+     * descends once, cutting at both ends on the way down, and only rebuilds
+     * the spines along the two cuts. Positions outside the tree are clamped,
+     * as they are for {@link #splitAt}.
+     * @param from The position of the first element to keep.
+     * @param to The position after the last element to keep.
+     * @return A new FingerTree containing only the given range.
+     */
+    public FingerTree<V, A> slice(final int from, final int to)
+    {
+        final int lo = Math.max(from, 0);
+        final int hi = Math.min(to, size());
+        if (lo >= hi)
+            return new Empty<V, A>(m);
+        else if (0 == lo && size() == hi)
+            return this;
+
+        final Slice<V, A> s = sliceHelper(lo, hi - 1);
+        return (null == s.middle) ?
+            new Single<V, A>(m, s.first) :
+            s.middle.pushFront(s.first).pushBack(s.last);
+    }
+
+    /**
+     * Finds the element at which the given predicate first holds.
+     * This descends exactly as {@link #split} would, but it builds nothing
+     * along the way, so it costs no more than the annotations it sums.
+     * @param pred Must start false and change to true while accumulating measurements.
+     * @return The element whose measurement makes the predicate hold.
+     * @throws java.util.NoSuchElementException if the predicate never holds.
+     */
+    @SuppressWarnings("unchecked")
+    public A lookup(final Func<V, Boolean> pred)
+    {
+        if (isEmpty() || !pred.call(measure()))
+        {
+            throw new java.util.NoSuchElementException(
+                "FingerTree.lookup(): predicate never holds");
+        }
+
+        return (A) lookupHelper(pred, m.zero());
+    }
+
+    /**
+     * Finds the element at the given position.
+     * Like {@link #splitAt}, this descends using the sizes cached in each
+     * node; unlike it, this allocates nothing.
+     * @param index The number of elements preceding the one to find.
+     * @return The element at the given position.
+     * @throws IndexOutOfBoundsException if there is no such position.
+     */
+    @SuppressWarnings("unchecked")
+    public A at(final int index)
+    {
+        if (index < 0 || index >= size())
+        {
+            throw new java.lang.IndexOutOfBoundsException(
+                "FingerTree.at(): index " + index + " out of range");
+        }
+
+        return (A) atHelper(index);
+    }
+
+    /**
+     * Applies a function to the element at the given position.
+     * This rebuilds only the nodes on the path from the root to that element,
+     * sharing everything else with this tree, and never splits or appends.
+     * @param index The number of elements preceding the one to change.
+     * @param f The function to apply to that element.
+     * @return A new FingerTree with the result in place of that element.
+     * @throws IndexOutOfBoundsException if there is no such position.
+     */
+    @SuppressWarnings("unchecked")
+    public FingerTree<V, A> adjust(final int index, final Func<A, A> f)
+    {
+        if (index < 0 || index >= size())
+        {
+            throw new java.lang.IndexOutOfBoundsException(
+                "FingerTree.adjust(): index " + index + " out of range");
+        }
+
+        return adjustHelper(index, (Func<Object, Object>) (Func<?, ?>) f);
+    }
+
+    /**
+     * Replaces the element at the given position.
+     * @see #adjust
+     * @param index The number of elements preceding the one to replace.
+     * @param x The replacement.
+     * @return A new FingerTree with the replacement in place.
+     * @throws IndexOutOfBoundsException if there is no such position.
+     */
+    public FingerTree<V, A> update(final int index, final A x)
+    {
+        return adjust(index, new Func<A, A>() {
+            @Override
+            public A call(final A ignored)
+            {
+                return x;
+            }
+        });
+    }
+
+    /**
+     * Builds a tree from a range of an array in linear time.
+     * Rather than pushing each element onto the back of a growing tree, this
+     * packs the elements into full digits and groups the remainder into a
+     * layer of nodes, recursively, so each node is constructed exactly once.
+     * @param m The measurement to use when annotating the new tree.
+     * @param xs The elements to store, in order.
+     * @param from The index of the first element to store (inclusive).
+     * @param to The index of the last element to store (exclusive).
+     * @return A new FingerTree containing the given elements.
+     */
+    public static <V, A> FingerTree<V, A> fromArray(
+        final Measured<V, A> m,
+        final A[] xs,
+        final int from,
+        final int to)
+    {
+        if (from < 0 || to > xs.length || from > to)
+        {
+            throw new java.lang.IndexOutOfBoundsException(
+                "FingerTree.fromArray(): bad range [" + from + "," + to + ")");
+        }
+
+        return build(m, xs, from, to);
+    }
+
+    /**
+     * Appends a range of an array to the back of this tree.
+     * The elements are built into a tree of their own in linear time, which
+     * is then appended in one go.
+     * @param xs The elements to append, in order.
+     * @param from The index of the first element to append (inclusive).
+     * @param to The index of the last element to append (exclusive).
+     * @return A new FingerTree ending with the given elements.
+     */
+    public FingerTree<V, A> appendAll(final A[] xs, final int from, final int to)
+    {
+        return append(fromArray(m, xs, from, to));
+    }
+
+    /**
+     * Appends many trees to the back of this tree.
+     * Rather than appending each tree in turn onto an ever-growing result,
+     * this appends neighbouring pairs, then neighbouring pairs of the
+     * results, and so on, so that each append joins trees of similar size and
+     * each spine built along the way is as short as the trees it joins. Empty
+     * trees are skipped entirely.
+     * @param trees The trees to append, in order.
+     * @return A new FingerTree containing this tree's elements followed by
+     * those of each given tree.
+     */
+    public FingerTree<V, A> concatAll(final Iterable<? extends FingerTree<V, A>> trees)
+    {
+        final java.util.ArrayList<FingerTree<V, A>> parts = new java.util.ArrayList<>();
+        if (!isEmpty())
+        {
+            parts.add(this);
+        }
+        for (final FingerTree<V, A> tree : trees)
+        {
+            if (!tree.isEmpty())
+            {
+                parts.add(tree);
+            }
+        }
+
+        return parts.isEmpty() ? this : concatRange(parts, 0, parts.size());
+    }
+
     /*** HELPER FUNCTIONS ***/
 
+    private static <V, A> FingerTree<V, A> concatRange(
+        final java.util.List<FingerTree<V, A>> parts,
+        final int from,
+        final int to)
+    {
+        if (1 == to - from)
+            return parts.get(from);
+
+        final int mid = (from + to) >>> 1;
+        return concatRange(parts, from, mid).append(concatRange(parts, mid, to));
+    }
+
     abstract Split<FingerTree<V, A>, A> splitHelper(final Func<V, Boolean> pred, final V i);
 
+    abstract Split<FingerTree<V, A>, A> splitAtHelper(final int i);
+
+    // The lookup helpers yield elements from the bottom of the tree, which
+    // have some type other than A everywhere but the top level.
+    abstract Object lookupHelper(final Func<V, Boolean> pred, final V i);
+
+    abstract Object atHelper(final int i);
+
+    // The parallel helpers must run inside a fork/join pool.
+    abstract <B> FingerTree<V, B> parallelMapHelper(final Func<A, B> f, final Measured<V, B> m);
+
+    abstract <B> B parallelReduceHelper(final Monoid<B> monoid, final Func<A, B> f);
+
+    abstract FingerTree<V, A> adjustHelper(final int i, final Func<Object, Object> f);
+
+    // Both positions are inclusive: 0 <= from <= last < size().
+    abstract Slice<V, A> sliceHelper(final int from, final int last);
+
+    // Swap out the element at either end without otherwise changing the shape
+    // of the tree.
+    abstract FingerTree<V, A> replaceHead(final A x);
+
+    abstract FingerTree<V, A> replaceRhead(final A x);
+
+    private static <V, A> FingerTree<V, A> build(final Measured<V, A> m, final A[] xs, final int from, final int to)
+    {
+        final int n = to - from;
+        if (0 == n)
+        {
+            return new Empty<V, A>(m);
+        }
+        else if (1 == n)
+        {
+            return new Single<V, A>(m, xs[from]);
+        }
+        else if (n <= 8)
+        {
+            // Too few elements to bother with a spine.
+            final int half = from + n / 2;
+            return new Deep<V, A>(
+                m,
+                buildDigit(m, xs, from, half),
+                new Empty<V, Node<V, A>>(m.nodeMeasured()),
+                buildDigit(m, xs, half, to));
+        }
+
+        // Three elements in each digit, which leaves at least three to group
+        // into the nodes of the next level down.
+        final int lo = from + 3;
+        final int hi = to - 3;
+        final Node<V, A>[] nodes = buildNodes(m, xs, lo, hi);
+        return new Deep<V, A>(
+            m,
+            buildDigit(m, xs, from, lo),
+            build(m.nodeMeasured(), nodes, 0, nodes.length),
+            buildDigit(m, xs, hi, to));
+    }
+
+    private static <V, A> Digit<V, A> buildDigit(final Measured<V, A> m, final A[] xs, final int from, final int to)
+    {
+        switch (to - from)
+        {
+            case 1:
+                return new One<V, A>(m, xs[from]);
+            case 2:
+                return new Two<V, A>(m, xs[from], xs[from + 1]);
+            case 3:
+                return new Three<V, A>(m, xs[from], xs[from + 1], xs[from + 2]);
+            case 4:
+                return new Four<V, A>(m, xs[from], xs[from + 1], xs[from + 2], xs[from + 3]);
+            default:
+                throw new java.lang.IllegalArgumentException(
+                    "FingerTree.buildDigit(): bad digit size " + (to - from));
+        }
+    }
+
+    // Groups at least two elements into as many Node3 instances as possible,
+    // finishing with one or two Node2 instances when the count demands it.
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static <V, A> Node<V, A>[] buildNodes(final Measured<V, A> m, final A[] xs, final int from, final int to)
+    {
+        final int n = to - from;
+        final int twos = (3 - n % 3) % 3;
+        final int threes = (n - 2 * twos) / 3;
+        // Generic arrays cannot be created directly; an array of the raw type
+        // holds exactly the same nodes.
+        final Node<V, A>[] nodes = (Node<V, A>[]) new Node[threes + twos];
+
+        int i = from;
+        int j = 0;
+        for (; j < threes; ++j, i += 3)
+        {
+            nodes[j] = new Node3<V, A>(m, xs[i], xs[i + 1], xs[i + 2]);
+        }
+        for (; j < nodes.length; ++j, i += 2)
+        {
+            nodes[j] = new Node2<V, A>(m, xs[i], xs[i + 1]);
+        }
+
+        return nodes;
+    }
+
     static <V, A> FingerTree<V, Node<V, A>> add0(final Measured<V, A> m, final FingerTree<V, Node<V, A>> m1, final Digit<V, A> sf1, final Digit<V, A> pr2, final FingerTree<V, Node<V, A>> m2)
     {
         if(sf1 instanceof One) {
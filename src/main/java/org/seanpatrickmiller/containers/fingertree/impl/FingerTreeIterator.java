@@ -1,27 +1,224 @@
 package org.seanpatrickmiller.containers.fingertree.impl;
 
+import com.google.common.base.Objects;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
+/**
+ * Walks a finger tree in place.
+ * Rather than repeatedly taking views of the tree, which builds a new tree
+ * for every element, this keeps an explicit stack of the subtrees, nodes and
+ * elements it has yet to visit. Expanding an entry pushes its children in
+ * visiting order, so the stack never holds more than a few entries per level
+ * of the tree, and iteration allocates nothing once the stack has grown to
+ * fit.
+ */
 class FingerTreeIterator<V, A> implements Iterator<A>
 {
-    private FingerTree<V, A> tree;
+    // What each entry on the stack holds.
+    private static final byte ELEMENT = 0;
+    private static final byte NODE = 1;
+    private static final byte TREE = 2;
 
-    FingerTreeIterator(final FingerTree<V, A> tree)
+    // Visit the rightmost element first?
+    private final boolean reverse;
+
+    // The stack of entries yet to visit, with the next one on top.
+    private Object[] items;
+    private byte[] kinds;
+    private int top;
+
+    FingerTreeIterator(final FingerTree<V, A> tree, final boolean reverse)
     {
-        this.tree = tree;
+        this.reverse = reverse;
+        this.items = new Object[16];
+        this.kinds = new byte[16];
+        this.top = 0;
+
+        push(tree, TREE);
     }
 
     @Override
     public boolean hasNext()
     {
-        return !this.tree.isEmpty();
+        settle();
+        return top > 0;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public A next()
     {
-        final View<V, A> lview = this.tree.viewLeft();
-        this.tree = lview.tail;
-        return lview.head;
+        settle();
+        if (0 == top)
+        {
+            throw new NoSuchElementException(
+                "FingerTreeIterator.next(): no more elements");
+        }
+
+        final A a = (A) items[--top];
+        items[top] = null;
+        return a;
+    }
+
+    // Expands entries until an element is on top or the stack is empty.
+    private void settle()
+    {
+        while (top > 0 && ELEMENT != kinds[top - 1])
+        {
+            expand();
+        }
+    }
+
+    // Replaces the subtree or node on top with its children.
+    private void expand()
+    {
+        final Object item = items[--top];
+        final byte kind = kinds[top];
+        items[top] = null;
+
+        if (NODE == kind)
+        {
+            pushNode((Branch<?, ?>) item);
+        }
+        else if (item instanceof Deep)
+        {
+            final Deep<?, ?> deep = (Deep<?, ?>) item;
+            if (reverse)
+            {
+                pushDigit(deep.left);
+                push(deep.mid, TREE);
+                pushDigit(deep.right);
+            }
+            else
+            {
+                pushDigit(deep.right);
+                push(deep.mid, TREE);
+                pushDigit(deep.left);
+            }
+        }
+        else if (item instanceof Single)
+        {
+            final Single<?, ?> single = (Single<?, ?>) item;
+            push(single.val, kindOf(single.m));
+        }
+        // Otherwise, the tree is empty and there is nothing to push.
+    }
+
+    // How many elements the entry on top covers.
+    private int topSize()
+    {
+        final Object item = items[top - 1];
+        switch (kinds[top - 1])
+        {
+        case ELEMENT:
+            return 1;
+        case NODE:
+            return ((Branch<?, ?>) item).size;
+        default:
+            return ((FingerTree<?, ?>) item).size();
+        }
+    }
+
+    private void drop()
+    {
+        items[--top] = null;
+    }
+
+    // Compares the rest of two walks of the same number of elements. The
+    // entries on top of the two stacks always start at the same position, so
+    // if they are the same object, everything under them matches and both can
+    // be dropped unopened. Otherwise, the larger of the two gets expanded
+    // until there are elements on top of both.
+    static boolean sameElements(
+        final FingerTreeIterator<?, ?> x,
+        final FingerTreeIterator<?, ?> y)
+    {
+        while (x.top > 0 && y.top > 0)
+        {
+            final Object a = x.items[x.top - 1];
+            final Object b = y.items[y.top - 1];
+            final boolean xElement = ELEMENT == x.kinds[x.top - 1];
+            final boolean yElement = ELEMENT == y.kinds[y.top - 1];
+
+            if (a == b || (xElement && yElement))
+            {
+                if (a != b && !Objects.equal(a, b))
+                {
+                    return false;
+                }
+                x.drop();
+                y.drop();
+            }
+            else if (!xElement && (yElement || x.topSize() >= y.topSize()))
+            {
+                x.expand();
+            }
+            else
+            {
+                y.expand();
+            }
+        }
+
+        return !x.hasNext() && !y.hasNext();
+    }
+
+    private void pushDigit(final Digit<?, ?> digit)
+    {
+        final byte kind = kindOf(digit.m);
+        final int n = digit.arity();
+        if (reverse)
+        {
+            for (int k = 0; k < n; ++k)
+            {
+                push(digit.child(k), kind);
+            }
+        }
+        else
+        {
+            for (int k = n - 1; k >= 0; --k)
+            {
+                push(digit.child(k), kind);
+            }
+        }
+    }
+
+    private void pushNode(final Branch<?, ?> node)
+    {
+        final byte kind = kindOf(node.m);
+        final int n = node.arity();
+        if (reverse)
+        {
+            for (int k = 0; k < n; ++k)
+            {
+                push(node.child(k), kind);
+            }
+        }
+        else
+        {
+            for (int k = n - 1; k >= 0; --k)
+            {
+                push(node.child(k), kind);
+            }
+        }
+    }
+
+    private void push(final Object item, final byte kind)
+    {
+        if (top == items.length)
+        {
+            items = Arrays.copyOf(items, 2 * top);
+            kinds = Arrays.copyOf(kinds, 2 * top);
+        }
+
+        items[top] = item;
+        kinds[top] = kind;
+        ++top;
+    }
+
+    private static byte kindOf(final Measured<?, ?> m)
+    {
+        return m.measuresNodes() ? NODE : ELEMENT;
     }
 }
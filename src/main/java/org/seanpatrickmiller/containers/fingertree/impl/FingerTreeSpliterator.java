@@ -0,0 +1,301 @@
+package org.seanpatrickmiller.containers.fingertree.impl;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Splits and walks a finger tree in place.
+ * Like {@link FingerTreeIterator}, this keeps a stack of the subtrees, nodes
+ * and elements it has yet to visit, with the next one on top. Splitting
+ * hands the entries nearest the top to a new spliterator, breaking the entry
+ * that straddles the midpoint into its digits, spine and children until the
+ * halves are reasonably balanced. Neither half builds any new tree.
+ */
+final class FingerTreeSpliterator<V, A> implements Spliterator<A>
+{
+    // What each entry on the stack holds.
+    private static final byte ELEMENT = 0;
+    private static final byte NODE = 1;
+    private static final byte TREE = 2;
+
+    // The stack of entries yet to visit, with the next one on top.
+    private Object[] items;
+    private byte[] kinds;
+    private int top;
+
+    // The number of elements beneath all entries on the stack.
+    private int remaining;
+
+    FingerTreeSpliterator(final FingerTree<V, A> tree)
+    {
+        this(new Object[16], new byte[16], 0, tree.size());
+
+        if (!tree.isEmpty())
+        {
+            this.items[0] = tree;
+            this.kinds[0] = TREE;
+            this.top = 1;
+        }
+    }
+
+    private FingerTreeSpliterator(
+        final Object[] items,
+        final byte[] kinds,
+        final int top,
+        final int remaining)
+    {
+        this.items = items;
+        this.kinds = kinds;
+        this.top = top;
+        this.remaining = remaining;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(final Consumer<? super A> action)
+    {
+        while (top > 0 && ELEMENT != kinds[top - 1])
+        {
+            expand(top - 1);
+        }
+
+        if (0 == top)
+        {
+            return false;
+        }
+
+        final A a = (A) items[--top];
+        items[top] = null;
+        --remaining;
+        action.accept(a);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super A> action)
+    {
+        while (top > 0)
+        {
+            final Object item = items[--top];
+            items[top] = null;
+            visit(item, kinds[top], action);
+        }
+
+        remaining = 0;
+    }
+
+    @Override
+    public Spliterator<A> trySplit()
+    {
+        if (remaining < 2)
+        {
+            return null;
+        }
+
+        final int half = remaining / 2;
+        while (true)
+        {
+            // Find the entry that straddles the midpoint.
+            int before = 0;
+            int c = top - 1;
+            int size = sizeOf(c);
+            while (before + size < half)
+            {
+                before += size;
+                size = sizeOf(--c);
+            }
+
+            // Cut on whichever side of it comes nearer the midpoint, so long
+            // as both halves get something.
+            final int after = before + size;
+            final boolean cutAfter = (after < remaining) &&
+                (0 == before || after - half <= half - before);
+            final int cut = cutAfter ? after : before;
+
+            // Accept anything from a quarter to three quarters. Failing that,
+            // break the straddling entry apart and try again.
+            if (ELEMENT == kinds[c] ||
+                (4 * cut >= remaining && 4 * cut <= 3 * remaining))
+            {
+                return splitOff(cutAfter ? c : c + 1, cut);
+            }
+
+            expand(c);
+        }
+    }
+
+    @Override
+    public long estimateSize()
+    {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics()
+    {
+        return ORDERED | IMMUTABLE | SIZED | SUBSIZED;
+    }
+
+    // Hands every entry from the given position to the top, which together
+    // hold the given number of elements, to a new spliterator.
+    private Spliterator<A> splitOff(final int from, final int count)
+    {
+        final int n = top - from;
+        final Object[] prefixItems = new Object[Math.max(16, 2 * n)];
+        final byte[] prefixKinds = new byte[prefixItems.length];
+        System.arraycopy(items, from, prefixItems, 0, n);
+        System.arraycopy(kinds, from, prefixKinds, 0, n);
+
+        Arrays.fill(items, from, top, null);
+        top = from;
+        remaining -= count;
+
+        return new FingerTreeSpliterator<V, A>(
+            prefixItems,
+            prefixKinds,
+            n,
+            count);
+    }
+
+    // Replaces the entry at the given position with its children. The first
+    // child ends up nearest the top.
+    private void expand(final int c)
+    {
+        final Object item = items[c];
+        final byte kind = kinds[c];
+
+        if (NODE == kind)
+        {
+            final Branch<?, ?> node = (Branch<?, ?>) item;
+            final int n = node.arity();
+            final byte childKind = kindOf(node.m);
+            open(c, n);
+            for (int k = 0; k < n; ++k)
+            {
+                items[c + n - 1 - k] = node.child(k);
+                kinds[c + n - 1 - k] = childKind;
+            }
+        }
+        else if (item instanceof Deep)
+        {
+            final Deep<?, ?> deep = (Deep<?, ?>) item;
+            final int l = deep.left.arity();
+            final int mid = deep.mid.isEmpty() ? 0 : 1;
+            final int r = deep.right.arity();
+            open(c, l + mid + r);
+
+            int i = c;
+            i = writeDigit(deep.right, i);
+            if (1 == mid)
+            {
+                items[i] = deep.mid;
+                kinds[i] = TREE;
+                ++i;
+            }
+            writeDigit(deep.left, i);
+        }
+        else
+        {
+            // Only non-empty trees ever go on the stack.
+            final Single<?, ?> single = (Single<?, ?>) item;
+            items[c] = single.val;
+            kinds[c] = kindOf(single.m);
+        }
+    }
+
+    // Writes a digit's children from the given position upward, last child
+    // first, and returns the position after the first child.
+    private int writeDigit(final Digit<?, ?> digit, final int from)
+    {
+        final int n = digit.arity();
+        final byte kind = kindOf(digit.m);
+        for (int k = 0; k < n; ++k)
+        {
+            items[from + k] = digit.child(n - 1 - k);
+            kinds[from + k] = kind;
+        }
+        return from + n;
+    }
+
+    // Makes room to replace the entry at the given position with n entries.
+    private void open(final int c, final int n)
+    {
+        final int grow = n - 1;
+        if (top + grow > items.length)
+        {
+            final int length = Math.max(2 * items.length, top + grow);
+            items = Arrays.copyOf(items, length);
+            kinds = Arrays.copyOf(kinds, length);
+        }
+
+        System.arraycopy(items, c + 1, items, c + n, top - c - 1);
+        System.arraycopy(kinds, c + 1, kinds, c + n, top - c - 1);
+        top += grow;
+    }
+
+    private int sizeOf(final int c)
+    {
+        switch (kinds[c])
+        {
+            case ELEMENT:
+                return 1;
+            case NODE:
+                return ((Branch<?, ?>) items[c]).size;
+            default:
+                return ((FingerTree<?, ?>) items[c]).size();
+        }
+    }
+
+    // Feeds every element beneath an entry to the given action, in order.
+    @SuppressWarnings("unchecked")
+    private void visit(
+        final Object item,
+        final byte kind,
+        final Consumer<? super A> action)
+    {
+        if (ELEMENT == kind)
+        {
+            action.accept((A) item);
+        }
+        else if (NODE == kind)
+        {
+            final Branch<?, ?> node = (Branch<?, ?>) item;
+            final byte childKind = kindOf(node.m);
+            final int n = node.arity();
+            for (int k = 0; k < n; ++k)
+            {
+                visit(node.child(k), childKind, action);
+            }
+        }
+        else if (item instanceof Deep)
+        {
+            final Deep<?, ?> deep = (Deep<?, ?>) item;
+            visitDigit(deep.left, action);
+            visit(deep.mid, TREE, action);
+            visitDigit(deep.right, action);
+        }
+        else if (item instanceof Single)
+        {
+            final Single<?, ?> single = (Single<?, ?>) item;
+            visit(single.val, kindOf(single.m), action);
+        }
+    }
+
+    private void visitDigit(
+        final Digit<?, ?> digit,
+        final Consumer<? super A> action)
+    {
+        final byte kind = kindOf(digit.m);
+        final int n = digit.arity();
+        for (int k = 0; k < n; ++k)
+        {
+            visit(digit.child(k), kind, action);
+        }
+    }
+
+    private static byte kindOf(final Measured<?, ?> m)
+    {
+        return m.measuresNodes() ? NODE : ELEMENT;
+    }
+}
@@ -1,5 +1,6 @@
 package org.seanpatrickmiller.containers.fingertree.impl;
 
+import java.util.function.BiFunction;
 import org.seanpatrickmiller.containers.util.Func;
 
 final class Four<V, A> extends Digit<V, A>
@@ -11,7 +12,9 @@ final class Four<V, A> extends Digit<V, A>
 
     Four(final Measured<V, A> m, final A a, final A b, final A c, final A d)
     {
-        super(m);
+        super(m, m.size(a) + m.size(b) + m.size(c) + m.size(d), m.isStrict() ?
+            m.sum(m.sum(m.sum(m.measure(a), m.measure(b)), m.measure(c)), m.measure(d)) :
+            null);
 
         this.a = a;
         this.b = b;
@@ -75,6 +78,18 @@ final class Four<V, A> extends Digit<V, A>
         return f.call(f.call(f.call(f.call(zero).call(a)).call(b)).call(c)).call(d);
     }
 
+    @Override
+    <B> B foldRight(final BiFunction<? super A, B, B> f, final B zero)
+    {
+        return f.apply(a, f.apply(b, f.apply(c, f.apply(d, zero))));
+    }
+
+    @Override
+    <B> B foldLeft(final BiFunction<B, ? super A, B> f, final B zero)
+    {
+        return f.apply(f.apply(f.apply(f.apply(zero, a), b), c), d);
+    }
+
     @Override
     Split<Digit<V, A>, A> split(final Func<V, Boolean> pred, final V measure)
     {
@@ -111,6 +126,135 @@ final class Four<V, A> extends Digit<V, A>
             null);
     }
 
+    @Override
+    Split<Digit<V, A>, A> splitAt(final int i)
+    {
+        final int sa = m.size(a);
+        if (i < sa)
+        {
+            return new Split<Digit<V, A>, A>(
+                null,
+                a,
+                new Three<V, A>(m, b, c, d));
+        }
+
+        final int sab = sa + m.size(b);
+        if (i < sab)
+        {
+            return new Split<Digit<V, A>, A>(
+                new One<V, A>(m, a),
+                b,
+                new Two<V, A>(m, c, d));
+        }
+
+        if (i < sab + m.size(c))
+        {
+            return new Split<Digit<V, A>, A>(
+                new Two<V, A>(m, a, b),
+                c,
+                new One<V, A>(m, d));
+        }
+
+        return new Split<Digit<V, A>, A>(
+            new Three<V, A>(m, a, b, c),
+            d,
+            null);
+    }
+
+    @Override
+    Object lookup(final Func<V, Boolean> pred, final V i)
+    {
+        final V va = m.sum(i, m.measure(a));
+        if (pred.call(va))
+        {
+            return m.lookup(a, pred, i);
+        }
+
+        final V vab = m.sum(va, m.measure(b));
+        if (pred.call(vab))
+        {
+            return m.lookup(b, pred, va);
+        }
+
+        final V vabc = m.sum(vab, m.measure(c));
+        if (pred.call(vabc))
+        {
+            return m.lookup(c, pred, vab);
+        }
+
+        return m.lookup(d, pred, vabc);
+    }
+
+    @Override
+    Object at(final int i)
+    {
+        final int sa = m.size(a);
+        if (i < sa)
+        {
+            return m.at(a, i);
+        }
+
+        final int sab = sa + m.size(b);
+        if (i < sab)
+        {
+            return m.at(b, i - sa);
+        }
+
+        final int sabc = sab + m.size(c);
+        if (i < sabc)
+        {
+            return m.at(c, i - sab);
+        }
+
+        return m.at(d, i - sabc);
+    }
+
+    @Override
+    Digit<V, A> adjust(final int i, final Func<Object, Object> f)
+    {
+        final int sa = m.size(a);
+        if (i < sa)
+        {
+            return new Four<V, A>(m, m.adjust(a, i, f), b, c, d);
+        }
+
+        final int sab = sa + m.size(b);
+        if (i < sab)
+        {
+            return new Four<V, A>(m, a, m.adjust(b, i - sa, f), c, d);
+        }
+
+        final int sabc = sab + m.size(c);
+        if (i < sabc)
+        {
+            return new Four<V, A>(m, a, b, m.adjust(c, i - sab, f), d);
+        }
+
+        return new Four<V, A>(m, a, b, c, m.adjust(d, i - sabc, f));
+    }
+
+    @Override
+    int arity()
+    {
+        return 4;
+    }
+
+    @Override
+    A child(final int k)
+    {
+        switch (k)
+        {
+            case 0:
+                return a;
+            case 1:
+                return b;
+            case 2:
+                return c;
+            default:
+                return d;
+        }
+    }
+
     @Override
     FingerTree<V, A> toTree()
     {
@@ -121,6 +265,18 @@ final class Four<V, A> extends Digit<V, A>
             new Two<V, A>(m, c, d));
     }
 
+    @Override
+    Digit<V, A> replaceHead(final A x)
+    {
+        return new Four<V, A>(m, x, b, c, d);
+    }
+
+    @Override
+    Digit<V, A> replaceRhead(final A x)
+    {
+        return new Four<V, A>(m, a, b, c, x);
+    }
+
     @Override
     A head()
     {
@@ -1,7 +1,10 @@
 package org.seanpatrickmiller.containers.fingertree.impl;
 
 import org.seanpatrickmiller.containers.util.Func;
-import org.seanpatrickmiller.containers.util.Monoid;
+import org.seanpatrickmiller.containers.util.LongFunc;
+import org.seanpatrickmiller.containers.util.LongMonoid;
+import org.seanpatrickmiller.containers.util.Monoid2;
+import org.seanpatrickmiller.containers.util.RacyLazy;
 
 /**
  * Represents the measurement algorithm used to annotate nodes.
@@ -9,21 +12,227 @@ import org.seanpatrickmiller.containers.util.Monoid;
  * function f(x) = 1. This would annotate each node of a finger tree with the
  * total number of nodes beneath it, thereby yielding an indexed sequence with
  * a constant-time size operation.
+ *
+ * <p>By default, each node defers summing its annotation until somebody asks
+ * for it, which saves work when the monoid is expensive and most annotations
+ * are never read. The price is a thunk per node and a volatile read per
+ * measurement, which is more than a cheap monoid such as counting costs to
+ * evaluate. A strict Measured instead has each node sum its annotation as it
+ * is built and keep the result in a final field.</p>
+ *
+ * <p>Annotations are summed through {@link Monoid2}, in one call per pair,
+ * since building and splitting trees sums them at every step. A
+ * {@link org.seanpatrickmiller.containers.util.Monoid} built from a Curried
+ * operation still works, but pays for a closure per sum; the built-in
+ * monoids in {@link org.seanpatrickmiller.containers.util.Monoids} do
+ * not.</p>
+ *
+ * <p>To track several quantities at once, such as a size together with a
+ * maximum, {@link #product} combines primitive measurements into one whose
+ * annotations are flat arrays of longs, one slot per component. Summing two
+ * such annotations allocates only the array for the result, rather than a
+ * tuple plus a boxed value and a Curried closure per component, and
+ * {@link #greaterThan} and {@link #atLeast} build split predicates on any
+ * one component. The arrays are shared between trees, so they must never be
+ * modified.</p>
  */
 public final class Measured<V, A>
 {
-    private final Monoid<V> monoid;
+    // Every annotation is summed here, in one call per pair.
+    private final Monoid2<V> monoid;
     private final Func<A, V> measure;
 
+    // Are the measured values branches, each of which knows how many elements
+    // lie beneath it, or are they elements in their own right?
+    private final boolean nodes;
+
+    // Are annotations computed as each node is built, rather than on demand?
+    private final boolean strict;
+
+    // The measurement for the next level down, created on first use. Every
+    // field it holds is final, so losing a race to create it is harmless.
+    private Measured<V, Node<V, A>> nodeMeasured;
+
+    // The measurement for the chunks of a chunked tree, likewise.
+    private Measured<V, Chunk<V, A>> chunkMeasured;
+
     /**
      * Constructs a Measured instance.
      * @param monoid The monoid to use when summing measurements for annotation.
      * @param measure A function to process elements and yield measurements.
      */
-    public Measured(final Monoid<V> monoid, final Func<A, V> measure)
+    public Measured(final Monoid2<V> monoid, final Func<A, V> measure)
+    {
+        this(monoid, measure, false);
+    }
+
+    /**
+     * Constructs a Measured instance, choosing when to compute annotations.
+     * @param monoid The monoid to use when summing measurements for annotation.
+     * @param measure A function to process elements and yield measurements.
+     * @param strict true to compute each annotation as its node is built;
+     * false to defer it until first use.
+     */
+    public Measured(
+        final Monoid2<V> monoid,
+        final Func<A, V> measure,
+        final boolean strict)
+    {
+        this(monoid, measure, false, strict);
+    }
+
+    private Measured(
+        final Monoid2<V> monoid,
+        final Func<A, V> measure,
+        final boolean nodes,
+        final boolean strict)
     {
         this.monoid = monoid;
         this.measure = measure;
+        this.nodes = nodes;
+        this.strict = strict;
+    }
+
+    /**
+     * One component of a product measurement.
+     * @see Measured#component
+     */
+    public static final class Component<A>
+    {
+        private final LongMonoid monoid;
+        private final LongFunc<? super A> measure;
+
+        private Component(final LongMonoid monoid, final LongFunc<? super A> measure)
+        {
+            this.monoid = monoid;
+            this.measure = measure;
+        }
+    }
+
+    /**
+     * Describes one component of a product measurement.
+     * @param monoid The monoid to use when summing this component.
+     * @param measure A function to process elements and yield this component.
+     * @return The component, for passing to {@link #product}.
+     */
+    public static <A> Component<A> component(
+        final LongMonoid monoid,
+        final LongFunc<? super A> measure)
+    {
+        return new Component<A>(monoid, measure);
+    }
+
+    /**
+     * Constructs a Measured instance whose annotations are the measurements
+     * of every given component, in order.
+     * @param components The components to measure.
+     * @return A measurement that defers annotations until first use.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <A> Measured<long[], A> product(final Component<A>... components)
+    {
+        // Passing the array on is safe, since the other overload is also
+        // @SafeVarargs and only reads it.
+        return product(false, components);
+    }
+
+    /**
+     * Constructs a Measured instance whose annotations are the measurements
+     * of every given component, in order, choosing when to compute them.
+     * @param strict true to compute each annotation as its node is built;
+     * false to defer it until first use.
+     * @param components The components to measure.
+     * @return A measurement whose annotations are arrays with one slot per
+     * component.
+     */
+    @SafeVarargs
+    public static <A> Measured<long[], A> product(
+        final boolean strict,
+        final Component<A>... components)
+    {
+        final int n = components.length;
+        final LongMonoid[] monoids = new LongMonoid[n];
+        final long[] zero = new long[n];
+        for (int k = 0; k < n; ++k)
+        {
+            monoids[k] = components[k].monoid;
+            zero[k] = monoids[k].zero();
+        }
+
+        final Monoid2<long[]> monoid = new Monoid2<long[]>() {
+            @Override
+            public long[] sum(final long[] a, final long[] b) {
+                return sumComponents(monoids, a, b);
+            }
+
+            @Override
+            public long[] zero() {
+                return zero;
+            }
+        };
+
+        final Func<A, long[]> measure = new Func<A, long[]>() {
+            @Override
+            public long[] call(final A a) {
+                final long[] result = new long[n];
+                for (int k = 0; k < n; ++k)
+                {
+                    result[k] = components[k].measure.call(a);
+                }
+                return result;
+            }
+        };
+
+        return new Measured<long[], A>(monoid, measure, false, strict);
+    }
+
+    private static long[] sumComponents(
+        final LongMonoid[] monoids,
+        final long[] a,
+        final long[] b)
+    {
+        final long[] result = new long[monoids.length];
+        for (int k = 0; k < monoids.length; ++k)
+        {
+            result[k] = monoids[k].sum(a[k], b[k]);
+        }
+        return result;
+    }
+
+    /**
+     * Split predicate on one component of a product measurement, for a
+     * component that never decreases as elements are added, such as a size.
+     * @param k The index of the component.
+     * @param bound The value the component must pass.
+     * @return A predicate that holds once component k exceeds the bound.
+     */
+    public static Func<long[], Boolean> greaterThan(final int k, final long bound)
+    {
+        return new Func<long[], Boolean>() {
+            @Override
+            public Boolean call(final long[] v) {
+                return v[k] > bound;
+            }
+        };
+    }
+
+    /**
+     * Split predicate on one component of a product measurement, for a
+     * component that never decreases as elements are added, such as a
+     * maximum.
+     * @param k The index of the component.
+     * @param bound The value the component must reach.
+     * @return A predicate that holds once component k reaches the bound.
+     */
+    public static Func<long[], Boolean> atLeast(final int k, final long bound)
+    {
+        return new Func<long[], Boolean>() {
+            @Override
+            public Boolean call(final long[] v) {
+                return v[k] >= bound;
+            }
+        };
     }
 
     V measure(final A a)
@@ -41,23 +250,110 @@ public final class Measured<V, A>
         return monoid.zero();
     }
 
+    /**
+     * Are annotations computed as each node is built?
+     */
+    boolean isStrict()
+    {
+        return strict;
+    }
+
+    /**
+     * Reads the annotation a node prepared for this measurement: the value
+     * itself when strict, or else a thunk that computes it.
+     */
+    @SuppressWarnings("unchecked")
+    V annotation(final Object v)
+    {
+        // Nodes prepare the annotation with this same measurement, so it
+        // holds a V, or a thunk for one.
+        return strict ? (V) v : ((RacyLazy<V>) v).getValue();
+    }
+
+    /**
+     * Are the measured values branches rather than elements?
+     */
+    boolean measuresNodes()
+    {
+        return nodes;
+    }
+
+    /**
+     * Counts the elements represented by a measured value.
+     * This is independent of the monoid: it is one for an element and the
+     * cached size for a branch, so every level of the tree can track its size
+     * in a plain int.
+     */
+    int size(final A a)
+    {
+        return nodes ? ((Branch<?, ?>) a).size : 1;
+    }
+
+    /**
+     * Continues a lookup into a measured value.
+     * A branch passes the lookup down to its children; anything else is the
+     * element being sought.
+     */
+    @SuppressWarnings("unchecked")
+    Object lookup(final A a, final Func<V, Boolean> pred, final V i)
+    {
+        // A measurement of branches only ever measures branches annotated
+        // with this measurement's own V.
+        return nodes ? ((Branch<V, ?>) a).lookup(pred, i) : a;
+    }
+
+    /**
+     * Continues an indexed lookup into a measured value.
+     * @see #lookup
+     */
+    Object at(final A a, final int i)
+    {
+        return nodes ? ((Branch<?, ?>) a).at(i) : a;
+    }
+
+    /**
+     * Continues an update into a measured value.
+     * A branch rebuilds itself around the updated child; anything else is the
+     * element to replace.
+     * @see #at
+     */
+    @SuppressWarnings("unchecked")
+    A adjust(final A a, final int i, final Func<Object, Object> f)
+    {
+        // A branch rebuilds itself as the same kind of branch, and f maps an
+        // element to its replacement, so either way the result is an A.
+        return nodes ?
+            (A) ((Branch<V, ?>) a).adjust(i, f) :
+            (A) f.call(a);
+    }
+
     Measured<V, Node<V, A>> nodeMeasured() {
-        return new Measured<V, Node<V, A>>(monoid, new Func<Node<V, A>, V>() {
-            @Override
-            public V call(final Node<V, A> node)
-            {
-                return node.measure();
-            }
-        });
+        Measured<V, Node<V, A>> temp = nodeMeasured;
+        if (null == temp)
+        {
+            temp = branchMeasured();
+            nodeMeasured = temp;
+        }
+        return temp;
+    }
+
+    Measured<V, Chunk<V, A>> chunkMeasured() {
+        Measured<V, Chunk<V, A>> temp = chunkMeasured;
+        if (null == temp)
+        {
+            temp = branchMeasured();
+            chunkMeasured = temp;
+        }
+        return temp;
     }
 
-    Measured<V, Digit<V, A>> digitMeasured() {
-        return new Measured<V, Digit<V, A>>(monoid, new Func<Digit<V, A>, V>() {
+    private <N extends Branch<V, A>> Measured<V, N> branchMeasured() {
+        return new Measured<V, N>(monoid, new Func<N, V>() {
             @Override
-            public V call(final Digit<V, A> d)
+            public V call(final N branch)
             {
-                return d.measure();
+                return branch.measure();
             }
-        });
+        }, true, strict);
     }
 }
@@ -7,15 +7,26 @@ public final class MeasurementFactory
 {
     public Measured<java.lang.Integer, java.lang.Integer> makeSequentialMeasurement()
     {
-        // Constant function (always returns same value).
-        final Func<java.lang.Integer, java.lang.Integer> one =
-            new Func<java.lang.Integer, java.lang.Integer>() {
-                public java.lang.Integer call(final java.lang.Integer i) {
-                    return 1;
-                }
-            };
-
         // Measurement algorithm.
-        return new Measured<>(Monoids.SUM, one);
+        return new Measured<>(Monoids.SUM, one());
+    }
+
+    /**
+     * Like {@link #makeSequentialMeasurement()}, but each node counts its
+     * elements as it is built rather than on demand.
+     */
+    public Measured<java.lang.Integer, java.lang.Integer> makeStrictSequentialMeasurement()
+    {
+        return new Measured<>(Monoids.SUM, one(), true);
+    }
+
+    private static Func<java.lang.Integer, java.lang.Integer> one()
+    {
+        // Constant function (always returns same value).
+        return new Func<java.lang.Integer, java.lang.Integer>() {
+            public java.lang.Integer call(final java.lang.Integer i) {
+                return 1;
+            }
+        };
     }
 }
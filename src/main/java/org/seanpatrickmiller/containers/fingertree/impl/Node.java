@@ -1,41 +1,46 @@
 package org.seanpatrickmiller.containers.fingertree.impl;
 
 import org.seanpatrickmiller.containers.util.Func;
-import org.seanpatrickmiller.containers.util.Lazy;
 
-abstract class Node<V, A>
+/**
+ * A 2-3 node of an ordinary finger tree. Unlike other branches, a node can
+ * be broken back up into a digit, so the tree can split through it.
+ */
+abstract class Node<V, A> extends Branch<V, A>
 {
-    protected final Measured<V, A> m;
-    protected final Lazy<V> v;
-
-    Node(final Measured<V, A> m, final Lazy<V> v)
+    Node(final Measured<V, A> m, final Object v, final int size)
     {
-        this.m = m;
-        this.v = v;
+        super(m, v, size);
     }
 
+    @Override
     abstract Node<V, A> reverse(final Func<A, A> f);
 
+    @Override
     abstract <B> Node<V, B> map(final Func<A, B> f, final Measured<V, B> m);
 
+    @Override
     abstract Node<V, A> map(final Func<A, A> f);
 
-    abstract <B> B foldRight(final Func<A, Func<B, B>> f, final B zero);
-
-    abstract <B> B foldLeft(final Func<B, Func<A, B>> f, final B zero);
+    @Override
+    abstract Node<V, A> adjust(final int i, final Func<Object, Object> f);
 
     abstract Split<Digit<V, A>, A> split(final Func<V, Boolean> pred, final V measure);
 
-    abstract Digit<V, A> toDigit();
+    abstract Split<Digit<V, A>, A> splitAt(final int i);
 
-    V measure()
-    {
-        return v.getValue();
-    }
+    abstract Digit<V, A> toDigit();
 
-    Measured<V, A> measured()
+    // Maps each child in a task of its own, then builds a node of the same
+    // arity from the results.
+    @SuppressWarnings("unchecked")
+    <B> Node<V, B> parallelMap(final Func<A, B> f, final Measured<V, B> m)
     {
-        return m;
+        // Every result came from f, so each really is a B.
+        final Object[] results = parallelApply(f);
+        return (2 == results.length) ?
+            new Node2<V, B>(m, (B) results[0], (B) results[1]) :
+            new Node3<V, B>(m, (B) results[0], (B) results[1], (B) results[2]);
     }
 
     static <V, A> Func<Node<V, A>, Node<V, A>> liftReverse(final Func<A, A> f)
@@ -60,44 +65,26 @@ abstract class Node<V, A>
         };
     }
 
-    static <V, A> Func<Node<V, A>, Node<V, A>> liftMap(final Func<A, A> f)
-    {
-        return new Func<Node<V, A>, Node<V, A>>() {
-            @Override
-            public Node<V, A> call(final Node<V, A> node) {
-                return node.map(f);
-            }
-        };
-    }
-
-    static <V, A, B> Func<B, Func<Node<V, A>, B>> liftFoldLeft(
-        final Func<B, Func<A, B>> f)
+    static <V, A, B> Func<Node<V, A>, Node<V, B>> liftParallelMap(
+        final Func<A, B> f,
+        final Measured<V, B> m)
     {
-        return new Func<B, Func<Node<V, A>, B>>() {
+        return new Func<Node<V, A>, Node<V, B>>() {
             @Override
-            public Func<Node<V, A>, B> call(final B b) {
-                return new Func<Node<V, A>, B>() {
-                    @Override
-                    public B call(final Node<V, A> node) {
-                        return node.foldLeft(f, b);
-                    }
-                };
+            public Node<V, B> call(final Node<V, A> node) {
+                return (node.size < PARALLEL_THRESHOLD) ?
+                    node.map(f, m) :
+                    node.parallelMap(f, m);
             }
         };
     }
 
-    static <V, A, B> Func<B, Func<Node<V, A>, B>> liftFoldRight(
-        final Func<A, Func<B, B>> f)
+    static <V, A> Func<Node<V, A>, Node<V, A>> liftMap(final Func<A, A> f)
     {
-        return new Func<B, Func<Node<V, A>, B>>() {
+        return new Func<Node<V, A>, Node<V, A>>() {
             @Override
-            public Func<Node<V, A>, B> call(final B b) {
-                return new Func<Node<V, A>, B>() {
-                    @Override
-                    public B call(final Node<V, A> node) {
-                        return node.foldRight(f, b);
-                    }
-                };
+            public Node<V, A> call(final Node<V, A> node) {
+                return node.map(f);
             }
         };
     }
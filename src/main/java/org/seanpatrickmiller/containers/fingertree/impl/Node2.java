@@ -1,7 +1,8 @@
 package org.seanpatrickmiller.containers.fingertree.impl;
 
+import java.util.function.BiFunction;
 import org.seanpatrickmiller.containers.util.Func;
-import org.seanpatrickmiller.containers.util.Lazy;
+import org.seanpatrickmiller.containers.util.RacyLazy;
 
 final class Node2<V, A> extends Node<V, A>
 {
@@ -10,17 +11,27 @@ final class Node2<V, A> extends Node<V, A>
 
     Node2(final Measured<V, A> m, final A first, final A second)
     {
-        super(m, new Lazy<V>() {
-            @Override
-            protected V eval()
-            {
-                return m.sum(m.measure(first), m.measure(second));
-            }
-        });
+        super(m, m.isStrict() ?
+            sum(m, first, second) :
+            new RacyLazy<V>() {
+                @Override
+                protected V eval()
+                {
+                    return sum(m, first, second);
+                }
+            }, m.size(first) + m.size(second));
         this.first = first;
         this.second = second;
     }
 
+    private static <V, A> V sum(
+        final Measured<V, A> m,
+        final A first,
+        final A second)
+    {
+        return m.sum(m.measure(first), m.measure(second));
+    }
+
     @Override
     Node<V, A> reverse(final Func<A, A> f)
     {
@@ -51,6 +62,18 @@ final class Node2<V, A> extends Node<V, A>
         return f.call(f.call(zero).call(first)).call(second);
     }
 
+    @Override
+    <B> B foldRight(final BiFunction<? super A, B, B> f, final B zero)
+    {
+        return f.apply(first, f.apply(second, zero));
+    }
+
+    @Override
+    <B> B foldLeft(final BiFunction<B, ? super A, B> f, final B zero)
+    {
+        return f.apply(f.apply(zero, first), second);
+    }
+
     @Override
     Split<Digit<V, A>, A> split(final Func<V, Boolean> pred, final V measure)
     {
@@ -63,6 +86,65 @@ final class Node2<V, A> extends Node<V, A>
                 new One<V, A>(m, first), second, null);
     }
 
+    @Override
+    Split<Digit<V, A>, A> splitAt(final int i)
+    {
+        if (i < m.size(first))
+            return new Split<Digit<V, A>, A>(
+                null, first, new One<V, A>(m, second));
+        else
+            return new Split<Digit<V, A>, A>(
+                new One<V, A>(m, first), second, null);
+    }
+
+    @Override
+    Object lookup(final Func<V, Boolean> pred, final V measure)
+    {
+        final V va = m.sum(measure, m.measure(first));
+        if(pred.call(va))
+            return m.lookup(first, pred, measure);
+        else
+            return m.lookup(second, pred, va);
+    }
+
+    @Override
+    Object at(final int i)
+    {
+        final int sa = m.size(first);
+        if (i < sa)
+            return m.at(first, i);
+        else
+            return m.at(second, i - sa);
+    }
+
+    @Override
+    Node<V, A> adjust(final int i, final Func<Object, Object> f)
+    {
+        final int sa = m.size(first);
+        if (i < sa)
+            return new Node2<V, A>(m, m.adjust(first, i, f), second);
+        else
+            return new Node2<V, A>(m, first, m.adjust(second, i - sa, f));
+    }
+
+    @Override
+    int arity()
+    {
+        return 2;
+    }
+
+    @Override
+    A child(final int k)
+    {
+        switch (k)
+        {
+            case 0:
+                return first;
+            default:
+                return second;
+        }
+    }
+
     @Override
     Digit<V, A> toDigit()
     {
@@ -1,7 +1,8 @@
 package org.seanpatrickmiller.containers.fingertree.impl;
 
+import java.util.function.BiFunction;
 import org.seanpatrickmiller.containers.util.Func;
-import org.seanpatrickmiller.containers.util.Lazy;
+import org.seanpatrickmiller.containers.util.RacyLazy;
 
 final class Node3<V, A> extends Node<V, A>
 {
@@ -11,21 +12,32 @@ final class Node3<V, A> extends Node<V, A>
 
     Node3(final Measured<V, A> m, final A first, final A second, final A third)
     {
-        super(m, new Lazy<V>() {
-            @Override
-            protected V eval()
-            {
-                return m.sum(
-                    m.measure(first),
-                    m.sum(m.measure(second), m.measure(third)));
-            }
-        });
+        super(m, m.isStrict() ?
+            sum(m, first, second, third) :
+            new RacyLazy<V>() {
+                @Override
+                protected V eval()
+                {
+                    return sum(m, first, second, third);
+                }
+            }, m.size(first) + m.size(second) + m.size(third));
 
         this.first = first;
         this.second = second;
         this.third = third;
     }
 
+    private static <V, A> V sum(
+        final Measured<V, A> m,
+        final A first,
+        final A second,
+        final A third)
+    {
+        return m.sum(
+            m.measure(first),
+            m.sum(m.measure(second), m.measure(third)));
+    }
+
     @Override
     Node<V, A> reverse(final Func<A, A> f)
     {
@@ -56,6 +68,18 @@ final class Node3<V, A> extends Node<V, A>
         return f.call(f.call(f.call(zero).call(first)).call(second)).call(third);
     }
 
+    @Override
+    <B> B foldRight(final BiFunction<? super A, B, B> f, final B zero)
+    {
+        return f.apply(first, f.apply(second, f.apply(third, zero)));
+    }
+
+    @Override
+    <B> B foldLeft(final BiFunction<B, ? super A, B> f, final B zero)
+    {
+        return f.apply(f.apply(f.apply(zero, first), second), third);
+    }
+
     @Override
     Split<Digit<V, A>, A> split(final Func<V, Boolean> pred, final V measure)
     {
@@ -73,6 +97,84 @@ final class Node3<V, A> extends Node<V, A>
             new Two<V, A>(m, first, second), third, null);
     }
 
+    @Override
+    Split<Digit<V, A>, A> splitAt(final int i)
+    {
+        final int sa = m.size(first);
+        if (i < sa)
+            return new Split<Digit<V, A>, A>(
+                null, first, new Two<V, A>(m, second, third));
+
+        if (i < sa + m.size(second))
+            return new Split<Digit<V, A>, A>(
+                new One<V, A>(m, first), second, new One<V, A>(m, third));
+
+        return new Split<Digit<V, A>, A>(
+            new Two<V, A>(m, first, second), third, null);
+    }
+
+    @Override
+    Object lookup(final Func<V, Boolean> pred, final V measure)
+    {
+        final V va = m.sum(measure, m.measure(first));
+        if(pred.call(va))
+            return m.lookup(first, pred, measure);
+
+        final V vab = m.sum(va, m.measure(second));
+        if(pred.call(vab))
+            return m.lookup(second, pred, va);
+
+        return m.lookup(third, pred, vab);
+    }
+
+    @Override
+    Object at(final int i)
+    {
+        final int sa = m.size(first);
+        if (i < sa)
+            return m.at(first, i);
+
+        final int sab = sa + m.size(second);
+        if (i < sab)
+            return m.at(second, i - sa);
+
+        return m.at(third, i - sab);
+    }
+
+    @Override
+    Node<V, A> adjust(final int i, final Func<Object, Object> f)
+    {
+        final int sa = m.size(first);
+        if (i < sa)
+            return new Node3<V, A>(m, m.adjust(first, i, f), second, third);
+
+        final int sab = sa + m.size(second);
+        if (i < sab)
+            return new Node3<V, A>(m, first, m.adjust(second, i - sa, f), third);
+
+        return new Node3<V, A>(m, first, second, m.adjust(third, i - sab, f));
+    }
+
+    @Override
+    int arity()
+    {
+        return 3;
+    }
+
+    @Override
+    A child(final int k)
+    {
+        switch (k)
+        {
+            case 0:
+                return first;
+            case 1:
+                return second;
+            default:
+                return third;
+        }
+    }
+
     @Override
     Digit<V, A> toDigit()
     {
@@ -1,5 +1,6 @@
 package org.seanpatrickmiller.containers.fingertree.impl;
 
+import java.util.function.BiFunction;
 import org.seanpatrickmiller.containers.util.Func;
 
 final class One<V, A> extends Digit<V, A>
@@ -8,7 +9,7 @@ final class One<V, A> extends Digit<V, A>
 
     One(final Measured<V, A> m, final A a)
     {
-        super(m);
+        super(m, m.size(a), m.isStrict() ? m.measure(a) : null);
 
         this.a = a;
     }
@@ -69,18 +70,78 @@ final class One<V, A> extends Digit<V, A>
         return f.call(zero).call(a);
     }
 
+    @Override
+    <B> B foldRight(final BiFunction<? super A, B, B> f, final B zero)
+    {
+        return f.apply(a, zero);
+    }
+
+    @Override
+    <B> B foldLeft(final BiFunction<B, ? super A, B> f, final B zero)
+    {
+        return f.apply(zero, a);
+    }
+
     @Override
     Split<Digit<V, A>, A> split(final Func<V, Boolean> pred, final V measure)
     {
         return new Split<Digit<V, A>, A>(null, a, null);
     }
 
+    @Override
+    Split<Digit<V, A>, A> splitAt(final int i)
+    {
+        return new Split<Digit<V, A>, A>(null, a, null);
+    }
+
+    @Override
+    Object lookup(final Func<V, Boolean> pred, final V i)
+    {
+        return m.lookup(a, pred, i);
+    }
+
+    @Override
+    Object at(final int i)
+    {
+        return m.at(a, i);
+    }
+
+    @Override
+    Digit<V, A> adjust(final int i, final Func<Object, Object> f)
+    {
+        return new One<V, A>(m, m.adjust(a, i, f));
+    }
+
+    @Override
+    int arity()
+    {
+        return 1;
+    }
+
+    @Override
+    A child(final int k)
+    {
+        return a;
+    }
+
     @Override
     FingerTree<V, A> toTree()
     {
         return new Single<V, A>(m, a);
     }
 
+    @Override
+    Digit<V, A> replaceHead(final A x)
+    {
+        return new One<V, A>(m, x);
+    }
+
+    @Override
+    Digit<V, A> replaceRhead(final A x)
+    {
+        return new One<V, A>(m, x);
+    }
+
     @Override
     A head()
     {
@@ -1,26 +1,30 @@
 package org.seanpatrickmiller.containers.fingertree.impl;
 
 import com.google.common.base.Objects;
+import java.util.function.BiFunction;
 import org.seanpatrickmiller.containers.util.Func;
-import org.seanpatrickmiller.containers.util.Lazy;
+import org.seanpatrickmiller.containers.util.Monoid;
+import org.seanpatrickmiller.containers.util.RacyLazy;
 
 public final class Single<V, A> extends FingerTree<V, A>
 {
     final A val;
-    final Lazy<V> v;
+    final Object v;
 
     public Single(final Measured<V, A> m, final A val)
     {
         super(m);
 
         this.val = val;
-        v = new Lazy<V>() {
-            @Override
-            protected V eval()
-            {
-                return m.measure(val);
-            }
-        };
+        v = m.isStrict() ?
+            m.measure(val) :
+            new RacyLazy<V>() {
+                @Override
+                protected V eval()
+                {
+                    return m.measure(val);
+                }
+            };
     }
 
     @Override
@@ -103,6 +107,24 @@ public final class Single<V, A> extends FingerTree<V, A>
         return new Single<V, A>(m, f.call(val));
     }
 
+    @Override
+    <B> FingerTree<V, B> parallelMapHelper(final Func<A, B> f, final Measured<V, B> m)
+    {
+        return map(f, m);
+    }
+
+    @Override
+    public <B> B reduce(final Monoid<B> monoid, final Func<A, B> f)
+    {
+        return f.call(val);
+    }
+
+    @Override
+    <B> B parallelReduceHelper(final Monoid<B> monoid, final Func<A, B> f)
+    {
+        return reduce(monoid, f);
+    }
+
     @Override
     public <B> B foldRight(final Func<A, Func<B, B>> f, final B zero)
     {
@@ -115,6 +137,18 @@ public final class Single<V, A> extends FingerTree<V, A>
         return f.call(zero).call(val);
     }
 
+    @Override
+    public <B> B foldRight(final BiFunction<? super A, B, B> f, final B zero)
+    {
+        return f.apply(val, zero);
+    }
+
+    @Override
+    public <B> B foldLeft(final BiFunction<B, ? super A, B> f, final B zero)
+    {
+        return f.apply(zero, val);
+    }
+
     @Override
     public FingerTree<V, A> append(final FingerTree<V, A> that)
     {
@@ -124,7 +158,7 @@ public final class Single<V, A> extends FingerTree<V, A>
     @Override
     public V measure()
     {
-        return v.getValue();
+        return m.annotation(v);
     }
 
     @Override
@@ -136,6 +170,57 @@ public final class Single<V, A> extends FingerTree<V, A>
             new Empty<V, A>(m));
     }
 
+    @Override
+    public int size()
+    {
+        return m.size(val);
+    }
+
+    @Override
+    Split<FingerTree<V, A>, A> splitAtHelper(final int i)
+    {
+        return new Split<FingerTree<V, A>, A>(
+            new Empty<V, A>(m),
+            val,
+            new Empty<V, A>(m));
+    }
+
+    @Override
+    Object lookupHelper(final Func<V, Boolean> pred, final V i)
+    {
+        return m.lookup(val, pred, i);
+    }
+
+    @Override
+    Slice<V, A> sliceHelper(final int from, final int last)
+    {
+        return new Slice<V, A>(val, from, null, val, last);
+    }
+
+    @Override
+    FingerTree<V, A> adjustHelper(final int i, final Func<Object, Object> f)
+    {
+        return new Single<V, A>(m, m.adjust(val, i, f));
+    }
+
+    @Override
+    Object atHelper(final int i)
+    {
+        return m.at(val, i);
+    }
+
+    @Override
+    FingerTree<V, A> replaceHead(final A x)
+    {
+        return new Single<V, A>(m, x);
+    }
+
+    @Override
+    FingerTree<V, A> replaceRhead(final A x)
+    {
+        return new Single<V, A>(m, x);
+    }
+
     @Override
     public java.lang.String toString()
     {
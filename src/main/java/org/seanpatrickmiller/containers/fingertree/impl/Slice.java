@@ -0,0 +1,32 @@
+package org.seanpatrickmiller.containers.fingertree.impl;
+
+/**
+ * Wrapper for the results of the slice operation.
+ * The first and last elements of a slice may lie deep inside the items at
+ * either end, so this keeps those items whole, along with where in each item
+ * the slice begins or ends, and leaves it to the level above to open them up.
+ */
+final class Slice<V, A>
+{
+    // The item holding the first element, and that element's position in it.
+    final A first;
+    final int i;
+
+    // The items strictly between the first and last, or null if the first
+    // item is also the last.
+    final FingerTree<V, A> middle;
+
+    // The item holding the last element, and that element's position in it.
+    final A last;
+    final int j;
+
+    Slice(final A first, final int i, final FingerTree<V, A> middle,
+        final A last, final int j)
+    {
+        this.first = first;
+        this.i = i;
+        this.middle = middle;
+        this.last = last;
+        this.j = j;
+    }
+}
@@ -1,5 +1,6 @@
 package org.seanpatrickmiller.containers.fingertree.impl;
 
+import java.util.function.BiFunction;
 import org.seanpatrickmiller.containers.util.Func;
 
 final class Three<V, A> extends Digit<V, A>
@@ -10,7 +11,9 @@ final class Three<V, A> extends Digit<V, A>
 
     Three(final Measured<V, A> m, final A a, final A b, final A c)
     {
-        super(m);
+        super(m, m.size(a) + m.size(b) + m.size(c), m.isStrict() ?
+            m.sum(m.sum(m.measure(a), m.measure(b)), m.measure(c)) :
+            null);
 
         this.a = a;
         this.b = b;
@@ -73,6 +76,18 @@ final class Three<V, A> extends Digit<V, A>
         return f.call(f.call(f.call(zero).call(a)).call(b)).call(c);
     }
 
+    @Override
+    <B> B foldRight(final BiFunction<? super A, B, B> f, final B zero)
+    {
+        return f.apply(a, f.apply(b, f.apply(c, zero)));
+    }
+
+    @Override
+    <B> B foldLeft(final BiFunction<B, ? super A, B> f, final B zero)
+    {
+        return f.apply(f.apply(f.apply(zero, a), b), c);
+    }
+
     @Override
     Split<Digit<V, A>, A> split(final Func<V, Boolean> pred, final V measure)
     {
@@ -100,6 +115,106 @@ final class Three<V, A> extends Digit<V, A>
             null);
     }
 
+    @Override
+    Split<Digit<V, A>, A> splitAt(final int i)
+    {
+        final int sa = m.size(a);
+        if (i < sa)
+        {
+            return new Split<Digit<V, A>, A>(
+                null,
+                a,
+                new Two<V, A>(m, b, c));
+        }
+
+        if (i < sa + m.size(b))
+        {
+            return new Split<Digit<V, A>, A>(
+                new One<V, A>(m, a),
+                b,
+                new One<V, A>(m, c));
+        }
+
+        return new Split<Digit<V, A>, A>(
+            new Two<V, A>(m, a, b),
+            c,
+            null);
+    }
+
+    @Override
+    Object lookup(final Func<V, Boolean> pred, final V i)
+    {
+        final V va = m.sum(i, m.measure(a));
+        if (pred.call(va))
+        {
+            return m.lookup(a, pred, i);
+        }
+
+        final V vab = m.sum(va, m.measure(b));
+        if (pred.call(vab))
+        {
+            return m.lookup(b, pred, va);
+        }
+
+        return m.lookup(c, pred, vab);
+    }
+
+    @Override
+    Object at(final int i)
+    {
+        final int sa = m.size(a);
+        if (i < sa)
+        {
+            return m.at(a, i);
+        }
+
+        final int sab = sa + m.size(b);
+        if (i < sab)
+        {
+            return m.at(b, i - sa);
+        }
+
+        return m.at(c, i - sab);
+    }
+
+    @Override
+    Digit<V, A> adjust(final int i, final Func<Object, Object> f)
+    {
+        final int sa = m.size(a);
+        if (i < sa)
+        {
+            return new Three<V, A>(m, m.adjust(a, i, f), b, c);
+        }
+
+        final int sab = sa + m.size(b);
+        if (i < sab)
+        {
+            return new Three<V, A>(m, a, m.adjust(b, i - sa, f), c);
+        }
+
+        return new Three<V, A>(m, a, b, m.adjust(c, i - sab, f));
+    }
+
+    @Override
+    int arity()
+    {
+        return 3;
+    }
+
+    @Override
+    A child(final int k)
+    {
+        switch (k)
+        {
+            case 0:
+                return a;
+            case 1:
+                return b;
+            default:
+                return c;
+        }
+    }
+
     @Override
     FingerTree<V, A> toTree()
     {
@@ -110,6 +225,18 @@ final class Three<V, A> extends Digit<V, A>
             new One<V, A>(m, c));
     }
 
+    @Override
+    Digit<V, A> replaceHead(final A x)
+    {
+        return new Three<V, A>(m, x, b, c);
+    }
+
+    @Override
+    Digit<V, A> replaceRhead(final A x)
+    {
+        return new Three<V, A>(m, a, b, x);
+    }
+
     @Override
     A head()
     {
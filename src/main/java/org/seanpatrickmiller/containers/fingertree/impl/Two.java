@@ -1,5 +1,6 @@
 package org.seanpatrickmiller.containers.fingertree.impl;
 
+import java.util.function.BiFunction;
 import org.seanpatrickmiller.containers.util.Func;
 
 final class Two<V, A> extends Digit<V, A>
@@ -9,7 +10,9 @@ final class Two<V, A> extends Digit<V, A>
 
     Two(final Measured<V, A> m, final A a, final A b)
     {
-        super(m);
+        super(m, m.size(a) + m.size(b), m.isStrict() ?
+            m.sum(m.measure(a), m.measure(b)) :
+            null);
 
         this.a = a;
         this.b = b;
@@ -71,6 +74,18 @@ final class Two<V, A> extends Digit<V, A>
         return f.call(f.call(zero).call(a)).call(b);
     }
 
+    @Override
+    <B> B foldRight(final BiFunction<? super A, B, B> f, final B zero)
+    {
+        return f.apply(a, f.apply(b, zero));
+    }
+
+    @Override
+    <B> B foldLeft(final BiFunction<B, ? super A, B> f, final B zero)
+    {
+        return f.apply(f.apply(zero, a), b);
+    }
+
     @Override
     Split<Digit<V, A>, A> split(final Func<V, Boolean> pred, final V measure)
     {
@@ -89,6 +104,77 @@ final class Two<V, A> extends Digit<V, A>
             null);
     }
 
+    @Override
+    Split<Digit<V, A>, A> splitAt(final int i)
+    {
+        if (i < m.size(a))
+        {
+            return new Split<Digit<V, A>, A>(
+                null,
+                a,
+                new One<V, A>(m, b));
+        }
+
+        return new Split<Digit<V, A>, A>(
+            new One<V, A>(m, a),
+            b,
+            null);
+    }
+
+    @Override
+    Object lookup(final Func<V, Boolean> pred, final V i)
+    {
+        final V va = m.sum(i, m.measure(a));
+        if (pred.call(va))
+        {
+            return m.lookup(a, pred, i);
+        }
+
+        return m.lookup(b, pred, va);
+    }
+
+    @Override
+    Object at(final int i)
+    {
+        final int sa = m.size(a);
+        if (i < sa)
+        {
+            return m.at(a, i);
+        }
+
+        return m.at(b, i - sa);
+    }
+
+    @Override
+    Digit<V, A> adjust(final int i, final Func<Object, Object> f)
+    {
+        final int sa = m.size(a);
+        if (i < sa)
+        {
+            return new Two<V, A>(m, m.adjust(a, i, f), b);
+        }
+
+        return new Two<V, A>(m, a, m.adjust(b, i - sa, f));
+    }
+
+    @Override
+    int arity()
+    {
+        return 2;
+    }
+
+    @Override
+    A child(final int k)
+    {
+        switch (k)
+        {
+            case 0:
+                return a;
+            default:
+                return b;
+        }
+    }
+
     @Override
     FingerTree<V, A> toTree()
     {
@@ -99,6 +185,18 @@ final class Two<V, A> extends Digit<V, A>
             new One<V, A>(m, b));
     }
 
+    @Override
+    Digit<V, A> replaceHead(final A x)
+    {
+        return new Two<V, A>(m, x, b);
+    }
+
+    @Override
+    Digit<V, A> replaceRhead(final A x)
+    {
+        return new Two<V, A>(m, a, x);
+    }
+
     @Override
     A head()
     {
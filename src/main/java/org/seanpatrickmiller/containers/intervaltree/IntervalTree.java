@@ -0,0 +1,188 @@
+package org.seanpatrickmiller.containers.intervaltree;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
+import org.seanpatrickmiller.containers.fingertree.impl.Measured;
+import org.seanpatrickmiller.containers.util.Func;
+import org.seanpatrickmiller.containers.util.LongFunc;
+
+/**
+ * Persistent interval tree.
+ *
+ * <p>Each element stands for the closed interval between its low and high
+ * endpoints, which are primitive longs. The elements sit in a finger tree in
+ * order of their low endpoints, and each node is annotated with both the
+ * greatest low endpoint and the greatest high endpoint beneath it, as in
+ * Hinze &amp; Paterson's interval trees. The first annotation finds where
+ * an interval belongs and bounds how far a search must go, while the second
+ * finds the next interval that reaches far enough, so each interval a
+ * search reports costs a single split of O(log<sub>2</sub>(<i>n</i>))
+ * time. Searches yield their results lazily, so a caller that stops early
+ * pays only for what it took.</p>
+ *
+ * <p>The results of a search hold on to the version searched, so a caller
+ * can go on taking them, from any thread, while newer versions with other
+ * intervals are derived from it.</p>
+ */
+public final class IntervalTree<A> implements java.lang.Iterable<A>
+{
+    // Slots of the annotation.
+    private static final int LOW = 0;
+    private static final int HIGH = 1;
+
+    // This tree's actual representation.
+    private final FingerTree<long[], A> tree;
+
+    // The measurement shared by every tree from the same factory.
+    private final Measured<long[], A> measured;
+
+    // The endpoints of each element.
+    private final LongFunc<? super A> low;
+    private final LongFunc<? super A> high;
+
+    IntervalTree(
+        final FingerTree<long[], A> tree,
+        final Measured<long[], A> measured,
+        final LongFunc<? super A> low,
+        final LongFunc<? super A> high)
+    {
+        this.tree = tree;
+        this.measured = measured;
+        this.low = low;
+        this.high = high;
+    }
+
+    private IntervalTree<A> with(final FingerTree<long[], A> tree)
+    {
+        return new IntervalTree<A>(tree, this.measured, this.low, this.high);
+    }
+
+    /**
+     * Is this tree empty?
+     * @return true if this tree is empty; otherwise, false.
+     */
+    public boolean isEmpty()
+    {
+        return this.tree.isEmpty();
+    }
+
+    /**
+     * Get this tree's size.
+     * @return This tree's size.
+     */
+    public int size()
+    {
+        return this.tree.size();
+    }
+
+    /**
+     * Insert an interval after any others with the same low endpoint.
+     * @param a The interval to insert.
+     * @return A new tree containing the given interval as well.
+     * @throws IllegalArgumentException if the interval ends before it starts.
+     */
+    public IntervalTree<A> insert(final A a)
+    {
+        final long l = this.low.call(a);
+        if (this.high.call(a) < l)
+        {
+            throw new java.lang.IllegalArgumentException(
+                "IntervalTree.insert(): high endpoint below low endpoint");
+        }
+
+        final FingerTree.SplitPair<long[], A> splat =
+            this.tree.split(Measured.greaterThan(LOW, l));
+        return with(splat.left.pushBack(a).append(splat.right));
+    }
+
+    /**
+     * Find every interval that overlaps a range.
+     * @param lo The low end of the range.
+     * @param hi The high end of the range.
+     * @return The intervals that share at least one point with [lo, hi], in
+     * order of their low endpoints, found as they are iterated.
+     */
+    public Iterable<A> intersections(final long lo, final long hi)
+    {
+        // Only intervals that start by hi can overlap, and of those, the ones
+        // that end at lo or later do.
+        return matches(Measured.greaterThan(LOW, hi), lo);
+    }
+
+    /**
+     * Find every interval that covers a range.
+     * @param lo The low end of the range.
+     * @param hi The high end of the range.
+     * @return The intervals that contain every point of [lo, hi], in order of
+     * their low endpoints, found as they are iterated.
+     */
+    public Iterable<A> dominators(final long lo, final long hi)
+    {
+        // Only intervals that start by lo can cover the range, and of those,
+        // the ones that end at hi or later do.
+        return matches(Measured.greaterThan(LOW, lo), hi);
+    }
+
+    // Yields the intervals before the point where past first holds whose high
+    // endpoints reach at least reach.
+    private Iterable<A> matches(final Func<long[], Boolean> past, final long reach)
+    {
+        return new Iterable<A>() {
+            @Override
+            public Iterator<A> iterator()
+            {
+                return new Iterator<A>() {
+                    // The candidates yet to search, or null before the first
+                    // search.
+                    private FingerTree<long[], A> rest = null;
+
+                    private FingerTree<long[], A> candidates()
+                    {
+                        if (null == rest)
+                        {
+                            rest = advance(tree.split(past).left);
+                        }
+                        return rest;
+                    }
+
+                    // Drop the candidates that end too soon.
+                    private FingerTree<long[], A> advance(final FingerTree<long[], A> t)
+                    {
+                        return t.split(Measured.atLeast(HIGH, reach)).right;
+                    }
+
+                    @Override
+                    public boolean hasNext()
+                    {
+                        return !candidates().isEmpty();
+                    }
+
+                    @Override
+                    public A next()
+                    {
+                        if (!hasNext())
+                        {
+                            throw new NoSuchElementException(
+                                "IntervalTree: no more intervals");
+                        }
+
+                        final A a = rest.head();
+                        rest = advance(rest.tail());
+                        return a;
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Iterates over the intervals in order of their low endpoints.
+     * @return An iterator over the intervals in this tree.
+     */
+    @Override
+    public Iterator<A> iterator()
+    {
+        return this.tree.iterator();
+    }
+}
@@ -0,0 +1,101 @@
+package org.seanpatrickmiller.containers.intervaltree;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import org.seanpatrickmiller.containers.fingertree.impl.Empty;
+import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
+import org.seanpatrickmiller.containers.fingertree.impl.Measured;
+import org.seanpatrickmiller.containers.util.LongFunc;
+import org.seanpatrickmiller.containers.util.Monoids;
+
+/**
+ * Factory for creating interval trees backed by
+ * {@link org.seanpatrickmiller.containers.fingertree.impl.FingerTree}.
+ */
+public final class IntervalTreeFactory<A>
+{
+    // The endpoints of each element.
+    private final LongFunc<? super A> low;
+    private final LongFunc<? super A> high;
+
+    // Tree measurement algorithm: the greatest low endpoint and the greatest
+    // high endpoint beneath each node, summed as each node is built.
+    private final Measured<long[], A> measured;
+
+    // The empty tree.
+    private final IntervalTree<A> nil;
+
+    /**
+     * Create a new factory instance.
+     * @param low A function that yields the low endpoint of an interval.
+     * @param high A function that yields the high endpoint of an interval,
+     * which must be no less than its low endpoint.
+     */
+    public IntervalTreeFactory(
+        final LongFunc<? super A> low,
+        final LongFunc<? super A> high)
+    {
+        this.low = low;
+        this.high = high;
+        this.measured = Measured.product(true,
+            Measured.<A>component(Monoids.LONG_MAX, low),
+            Measured.<A>component(Monoids.LONG_MAX, high));
+        this.nil = new IntervalTree<>(new Empty<>(this.measured), this.measured, low, high);
+    }
+
+    /**
+     * Create an empty tree.
+     * @return A new tree with zero intervals.
+     */
+    public IntervalTree<A> makeEmpty()
+    {
+        return this.nil;
+    }
+
+    /**
+     * Create a tree from the contents of an array.
+     * This sorts a copy of the array and builds the tree from it in linear
+     * time, which is considerably cheaper than inserting each interval.
+     * @param array Some intervals, in any order.
+     * @return A new tree containing the given intervals.
+     * @throws IllegalArgumentException if any interval ends before it starts.
+     */
+    public IntervalTree<A> fromArray(final A[] array)
+    {
+        final A[] sorted = array.clone();
+        for (final A a : sorted)
+        {
+            if (this.high.call(a) < this.low.call(a))
+            {
+                throw new java.lang.IllegalArgumentException(
+                    "IntervalTreeFactory.fromArray(): high endpoint below low endpoint");
+            }
+        }
+
+        Arrays.sort(sorted, new Comparator<A>() {
+            @Override
+            public int compare(final A a, final A b)
+            {
+                return java.lang.Long.compare(low.call(a), low.call(b));
+            }
+        });
+
+        return new IntervalTree<A>(
+            FingerTree.fromArray(this.measured, sorted, 0, sorted.length),
+            this.measured,
+            this.low,
+            this.high);
+    }
+
+    /**
+     * Create a tree from the contents of a collection.
+     * @param collection Some intervals.
+     * @return A new tree containing the given intervals.
+     */
+    @SuppressWarnings("unchecked")
+    public IntervalTree<A> fromCollection(final Collection<? extends A> collection)
+    {
+        return fromArray((A[]) collection.toArray());
+    }
+}
@@ -0,0 +1,168 @@
+package org.seanpatrickmiller.containers.priorityqueue;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
+import org.seanpatrickmiller.containers.fingertree.impl.Measured;
+import org.seanpatrickmiller.containers.util.Func;
+
+/**
+ * Persistent max-priority queue.
+ *
+ * <p>The elements sit in a finger tree in the order they were inserted, and
+ * each node is annotated with the greatest element beneath it, so the
+ * greatest element of the whole queue is the annotation at the root. Removing
+ * it splits the tree where the running maximum first reaches it and joins the
+ * two halves back together without it. Among equal elements, the one
+ * inserted first comes out first. Elements must not be null. The
+ * time-complexity of each operation (where <i>n</i> is the number of elements
+ * in the queue) is as follows:</p>
+ *
+ * <table style="margin-left: 2em">
+ *   <tr><td>insert</td><td>O(1) amortized</td></tr>
+ *   <tr><td>find-max</td><td>O(1)</td></tr>
+ *   <tr><td>extract-max</td><td>O(log<sub>2</sub>(<i>n</i>))</td></tr>
+ *   <tr><td>meld</td><td>O(log<sub>2</sub>(min(<i>n</i><sub>1</sub>,
+ *       <i>n</i><sub>2</sub>)))</td></tr>
+ * </table>
+ *
+ * <p>Extracting the maximum and melding build new queues and never touch the
+ * ones they start from, so threads sharing a queue each see the same
+ * maximum however many of them extract from it.</p>
+ */
+public final class PersistentPriorityQueue<A> implements java.lang.Iterable<A>
+{
+    // This queue's actual representation.
+    private final FingerTree<A, A> tree;
+
+    // The measurement shared by every queue from the same factory.
+    private final Measured<A, A> measured;
+
+    // The order in which elements come out, greatest first.
+    private final Comparator<? super A> comparator;
+
+    PersistentPriorityQueue(
+        final FingerTree<A, A> tree,
+        final Measured<A, A> measured,
+        final Comparator<? super A> comparator)
+    {
+        this.tree = tree;
+        this.measured = measured;
+        this.comparator = comparator;
+    }
+
+    private PersistentPriorityQueue<A> with(final FingerTree<A, A> tree)
+    {
+        return new PersistentPriorityQueue<A>(tree, this.measured, this.comparator);
+    }
+
+    /**
+     * Is this queue empty?
+     * @return true if this queue is empty; otherwise, false.
+     */
+    public boolean isEmpty()
+    {
+        return this.tree.isEmpty();
+    }
+
+    /**
+     * Get this queue's size.
+     * @return This queue's size.
+     */
+    public int size()
+    {
+        return this.tree.size();
+    }
+
+    /**
+     * Get the order in which elements come out of this queue.
+     * @return The comparator, under which the greatest element comes first.
+     */
+    public Comparator<? super A> comparator()
+    {
+        return this.comparator;
+    }
+
+    /**
+     * Insert an element.
+     * @param a The element to insert.
+     * @return A new queue containing the given element as well.
+     * @throws NullPointerException if the element is null.
+     */
+    public PersistentPriorityQueue<A> insert(final A a)
+    {
+        if (null == a)
+        {
+            throw new java.lang.NullPointerException(
+                "PersistentPriorityQueue.insert(): null element");
+        }
+
+        return with(this.tree.pushBack(a));
+    }
+
+    /**
+     * Get the greatest element, which is the first one inserted among any
+     * that compare equal to it.
+     * @return The greatest element.
+     * @throws NoSuchElementException if this queue is empty.
+     */
+    public A findMax()
+    {
+        if (this.tree.isEmpty())
+        {
+            throw new NoSuchElementException(
+                "PersistentPriorityQueue.findMax(): empty queue");
+        }
+
+        return this.tree.measure();
+    }
+
+    /**
+     * Remove the greatest element, which is the one {@link #findMax()}
+     * returns.
+     * @return A new queue containing every element but the greatest.
+     * @throws NoSuchElementException if this queue is empty.
+     */
+    public PersistentPriorityQueue<A> extractMax()
+    {
+        final A max = findMax();
+        final FingerTree.SplitPair<A, A> splat =
+            this.tree.split(new Func<A, Boolean>() {
+                @Override
+                public Boolean call(final A v) {
+                    return null != v && comparator.compare(v, max) >= 0;
+                }
+            });
+
+        return with(splat.left.append(splat.right.tail()));
+    }
+
+    /**
+     * Merge another queue into this one.
+     * @param that A queue from the same factory as this one.
+     * @return A new queue containing the elements of both.
+     * @throws IllegalArgumentException if the queues come from different
+     * factories, whose orders could differ.
+     */
+    public PersistentPriorityQueue<A> meld(final PersistentPriorityQueue<A> that)
+    {
+        if (this.measured != that.measured)
+        {
+            throw new java.lang.IllegalArgumentException(
+                "PersistentPriorityQueue.meld(): queues from different factories");
+        }
+
+        return with(this.tree.append(that.tree));
+    }
+
+    /**
+     * Iterates over the elements of this queue in no particular order.
+     * @return An iterator over the elements of this queue.
+     */
+    @Override
+    public Iterator<A> iterator()
+    {
+        return this.tree.iterator();
+    }
+}
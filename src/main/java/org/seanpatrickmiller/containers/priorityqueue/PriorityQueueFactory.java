@@ -0,0 +1,156 @@
+package org.seanpatrickmiller.containers.priorityqueue;
+
+import java.util.Collection;
+import java.util.Comparator;
+import org.seanpatrickmiller.containers.fingertree.impl.Empty;
+import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
+import org.seanpatrickmiller.containers.fingertree.impl.Measured;
+import org.seanpatrickmiller.containers.util.Identity;
+import org.seanpatrickmiller.containers.util.LongFunc;
+import org.seanpatrickmiller.containers.util.Monoid2;
+import org.seanpatrickmiller.containers.util.Varargs;
+
+/**
+ * Factory for creating priority queues backed by
+ * {@link org.seanpatrickmiller.containers.fingertree.impl.FingerTree}.
+ */
+public final class PriorityQueueFactory<A>
+{
+    // The order in which elements come out, greatest first.
+    private final Comparator<? super A> comparator;
+
+    // Queue measurement algorithm, annotating each node with the greatest
+    // element beneath it. Maxima are cheap to take, so nodes take them as
+    // they are built.
+    private final Measured<A, A> measured;
+
+    // The empty queue.
+    private final PersistentPriorityQueue<A> nil;
+
+    /**
+     * Create a new factory instance.
+     * @param comparator The order in which elements come out of the queues,
+     * greatest first.
+     */
+    public PriorityQueueFactory(final Comparator<? super A> comparator)
+    {
+        this.comparator = comparator;
+
+        // The empty tree measures as null, which loses to everything.
+        final Monoid2<A> max = new Monoid2<A>() {
+            @Override
+            public A sum(final A a, final A b) {
+                if (null == a)
+                {
+                    return b;
+                }
+                if (null == b)
+                {
+                    return a;
+                }
+                return comparator.compare(a, b) >= 0 ? a : b;
+            }
+
+            @Override
+            public A zero() {
+                return null;
+            }
+        };
+
+        this.measured = new Measured<>(max, new Identity<A>(), true);
+
+        this.nil = new PersistentPriorityQueue<>(
+            new Empty<>(this.measured), this.measured, comparator);
+    }
+
+    /**
+     * Create a new factory instance for elements in their natural order.
+     * @return A new factory whose queues yield the greatest element first.
+     */
+    public static <A extends Comparable<? super A>> PriorityQueueFactory<A> natural()
+    {
+        return new PriorityQueueFactory<A>(new Comparator<A>() {
+            @Override
+            public int compare(final A a, final A b)
+            {
+                return a.compareTo(b);
+            }
+        });
+    }
+
+    /**
+     * Create a new factory instance for elements with primitive priorities.
+     * Comparing two elements compares their priorities without boxing them.
+     * @param priority A function that yields the priority of an element.
+     * @return A new factory whose queues yield the element with the highest
+     * priority first.
+     */
+    public static <A> PriorityQueueFactory<A> byPriority(final LongFunc<? super A> priority)
+    {
+        return new PriorityQueueFactory<A>(new Comparator<A>() {
+            @Override
+            public int compare(final A a, final A b)
+            {
+                return java.lang.Long.compare(priority.call(a), priority.call(b));
+            }
+        });
+    }
+
+    /**
+     * Create an empty queue.
+     * @return A new queue with zero elements.
+     */
+    public PersistentPriorityQueue<A> makeEmpty()
+    {
+        return this.nil;
+    }
+
+    /**
+     * Create a queue from some elements.
+     * @param first Some element.
+     * @param rest More elements.
+     * @return A new queue containing the given elements.
+     * @throws NullPointerException if any element is null.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final PersistentPriorityQueue<A> make(final A first, final A... rest)
+    {
+        return fromArray(Varargs.prepend(first, rest));
+    }
+
+    /**
+     * Create a queue from the contents of an array, in linear time.
+     * @param array Some elements.
+     * @return A new queue containing the given elements.
+     * @throws NullPointerException if any element is null.
+     */
+    public PersistentPriorityQueue<A> fromArray(final A[] array)
+    {
+        for (final A a : array)
+        {
+            if (null == a)
+            {
+                throw new java.lang.NullPointerException(
+                    "PriorityQueueFactory.fromArray(): null element");
+            }
+        }
+
+        return new PersistentPriorityQueue<A>(
+            FingerTree.fromArray(this.measured, array, 0, array.length),
+            this.measured,
+            this.comparator);
+    }
+
+    /**
+     * Create a queue from the contents of a collection, in linear time.
+     * @param collection Some elements.
+     * @return A new queue containing the given elements.
+     * @throws NullPointerException if any element is null.
+     */
+    @SuppressWarnings("unchecked")
+    public PersistentPriorityQueue<A> fromCollection(final Collection<? extends A> collection)
+    {
+        return fromArray((A[]) collection.toArray());
+    }
+}
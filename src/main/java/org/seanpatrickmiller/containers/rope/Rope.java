@@ -0,0 +1,444 @@
+package org.seanpatrickmiller.containers.rope;
+
+import org.seanpatrickmiller.containers.fingertree.impl.Empty;
+import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
+import org.seanpatrickmiller.containers.fingertree.impl.Measured;
+import org.seanpatrickmiller.containers.util.Func;
+import org.seanpatrickmiller.containers.util.LongFunc;
+import org.seanpatrickmiller.containers.util.Monoids;
+
+/**
+ * Persistent text.
+ *
+ * <p>A rope cuts its text into chunks of up to {@value #LEAF} chars and keeps
+ * them in a finger tree, with each node annotated with the number of chars,
+ * line breaks and UTF-8 bytes beneath it. Finding a char by index or a line
+ * by number is then a lookup on one of those counts, and every edit cuts the
+ * tree at most twice and joins the pieces back together, so each operation
+ * takes O(log<sub>2</sub>(<i>n</i>)) time however long the text grows, and
+ * every version of the text shares all but O(log<sub>2</sub>(<i>n</i>)) of
+ * its chunks with the version it came from. Edits merge small neighbouring
+ * chunks back together, so repeated editing does not leave the text in
+ * slivers.</p>
+ *
+ * <p>A rope is a {@link CharSequence}, so it can go straight to a regular
+ * expression matcher. Reading chars one after another, as matchers do,
+ * costs O(1) each rather than a split apiece, since each rope remembers the
+ * chunk it last read from. Taking a {@link #subSequence} shares the chunks
+ * rather than copying them.</p>
+ *
+ * <p>Only '\n' counts as a line break. The only state a rope ever changes is
+ * the chunk {@link #charAt} remembers, and threads that race on it at worst
+ * repeat a lookup, so a rope can be read from many threads at once.</p>
+ */
+public final class Rope implements CharSequence
+{
+    /**
+     * The most chars to keep in a chunk.
+     */
+    public static final int LEAF = 1024;
+
+    // Slots of the annotation.
+    private static final int CHARS = 0;
+    private static final int LINES = 1;
+    private static final int BYTES = 2;
+
+    // A chunk of text, with its counts taken once up front.
+    private static final class Leaf
+    {
+        final char[] chars;
+        final int lines;
+        final int bytes;
+
+        Leaf(final char[] chars)
+        {
+            int l = 0;
+            int b = 0;
+            for (final char c : chars)
+            {
+                if ('\n' == c)
+                {
+                    ++l;
+                }
+
+                // Each half of a surrogate pair counts for half of the pair's
+                // four bytes, so the count holds even if a pair is cut.
+                if (c < 0x80)
+                {
+                    b += 1;
+                }
+                else if (c < 0x800 || Character.isSurrogate(c))
+                {
+                    b += 2;
+                }
+                else
+                {
+                    b += 3;
+                }
+            }
+
+            this.chars = chars;
+            this.lines = l;
+            this.bytes = b;
+        }
+
+        Leaf slice(final int from, final int to)
+        {
+            return new Leaf(java.util.Arrays.copyOfRange(chars, from, to));
+        }
+
+        Leaf concat(final Leaf that)
+        {
+            final char[] result =
+                java.util.Arrays.copyOf(chars, chars.length + that.chars.length);
+            System.arraycopy(that.chars, 0, result, chars.length, that.chars.length);
+            return new Leaf(result);
+        }
+    }
+
+    // Rope measurement algorithm, summed as each node is built.
+    private static final Measured<long[], Leaf> MEASURED = Measured.product(true,
+        Measured.component(Monoids.LONG_SUM, new LongFunc<Leaf>() {
+            @Override
+            public long call(final Leaf leaf) {
+                return leaf.chars.length;
+            }
+        }),
+        Measured.component(Monoids.LONG_SUM, new LongFunc<Leaf>() {
+            @Override
+            public long call(final Leaf leaf) {
+                return leaf.lines;
+            }
+        }),
+        Measured.component(Monoids.LONG_SUM, new LongFunc<Leaf>() {
+            @Override
+            public long call(final Leaf leaf) {
+                return leaf.bytes;
+            }
+        }));
+
+    // The empty rope.
+    private static final Rope EMPTY = new Rope(new Empty<long[], Leaf>(MEASURED));
+
+    // A chunk and the index of its first char.
+    private static final class Position
+    {
+        final Leaf leaf;
+        final int start;
+
+        Position(final Leaf leaf, final int start)
+        {
+            this.leaf = leaf;
+            this.start = start;
+        }
+    }
+
+    // Holds once the given count passes the given value, and remembers the
+    // last measure it held on. A lookup tests the predicate on where each
+    // span it descends into ends, narrowest last, so once the lookup returns
+    // that is where the chunk it found ends.
+    private static final class Past implements Func<long[], Boolean>
+    {
+        final int slot;
+        final long value;
+        long[] end;
+
+        Past(final int slot, final long value)
+        {
+            this.slot = slot;
+            this.value = value;
+        }
+
+        @Override
+        public Boolean call(final long[] v)
+        {
+            if (v[slot] > value)
+            {
+                end = v;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    // A tree cut in two at some index.
+    private static final class Halves
+    {
+        final FingerTree<long[], Leaf> left;
+        final FingerTree<long[], Leaf> right;
+
+        Halves(final FingerTree<long[], Leaf> left, final FingerTree<long[], Leaf> right)
+        {
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    // This rope's actual representation.
+    private final FingerTree<long[], Leaf> tree;
+
+    // The chunk that charAt last read from. Every field of a Position is
+    // final, so threads that race on this at worst repeat a lookup.
+    private Position last;
+
+    private Rope(final FingerTree<long[], Leaf> tree)
+    {
+        this.tree = tree;
+        this.last = null;
+    }
+
+    /**
+     * Get the empty rope.
+     * @return A rope with no text.
+     */
+    public static Rope empty()
+    {
+        return EMPTY;
+    }
+
+    /**
+     * Create a rope from some text, in linear time.
+     * @param text Some text.
+     * @return A new rope holding a copy of the given text.
+     */
+    public static Rope of(final CharSequence text)
+    {
+        return new Rope(build(text));
+    }
+
+    private static FingerTree<long[], Leaf> build(final CharSequence text)
+    {
+        final int n = text.length();
+        final Leaf[] leaves = new Leaf[(n + LEAF - 1) / LEAF];
+        for (int k = 0; k < leaves.length; ++k)
+        {
+            final int from = k * LEAF;
+            final int to = Math.min(n, from + LEAF);
+            final char[] chars = new char[to - from];
+            for (int i = from; i < to; ++i)
+            {
+                chars[i - from] = text.charAt(i);
+            }
+            leaves[k] = new Leaf(chars);
+        }
+
+        return FingerTree.fromArray(MEASURED, leaves, 0, leaves.length);
+    }
+
+    private static int count(final FingerTree<long[], Leaf> t, final int slot)
+    {
+        return (int) t.measure()[slot];
+    }
+
+    private void checkRange(final int from, final int to, final int limit)
+    {
+        if (from < 0 || from > to || to > limit)
+        {
+            throw new java.lang.IndexOutOfBoundsException(
+                "Rope: range [" + from + ", " + to + ") out of bounds");
+        }
+    }
+
+    // Cut the tree into the text before the index and the text from it on,
+    // cutting a chunk in two if need be.
+    private Halves cut(final int index)
+    {
+        if (index == length())
+        {
+            return new Halves(this.tree, EMPTY.tree);
+        }
+
+        final FingerTree.SplitPair<long[], Leaf> splat =
+            this.tree.split(Measured.greaterThan(CHARS, index));
+        final int offset = index - count(splat.left, CHARS);
+        if (0 == offset)
+        {
+            return new Halves(splat.left, splat.right);
+        }
+
+        final Leaf leaf = splat.right.head();
+        return new Halves(
+            splat.left.pushBack(leaf.slice(0, offset)),
+            splat.right.tail().pushFront(leaf.slice(offset, leaf.chars.length)));
+    }
+
+    // Append two trees, merging the chunks where they meet if they are small
+    // enough to share one.
+    private static FingerTree<long[], Leaf> join(
+        final FingerTree<long[], Leaf> left,
+        final FingerTree<long[], Leaf> right)
+    {
+        if (left.isEmpty() || right.isEmpty() ||
+            left.rhead().chars.length + right.head().chars.length > LEAF)
+        {
+            return left.append(right);
+        }
+
+        return left.rtail()
+            .pushBack(left.rhead().concat(right.head()))
+            .append(right.tail());
+    }
+
+    /**
+     * Get the number of chars in this rope.
+     * @return This rope's length.
+     */
+    @Override
+    public int length()
+    {
+        return count(this.tree, CHARS);
+    }
+
+    /**
+     * Get the number of lines in this rope, which is one more than the
+     * number of line breaks.
+     * @return This rope's line count.
+     */
+    public int lineCount()
+    {
+        return count(this.tree, LINES) + 1;
+    }
+
+    /**
+     * Get the number of bytes this rope's text takes up in UTF-8.
+     * @return This rope's length in UTF-8.
+     */
+    public long utf8Length()
+    {
+        return this.tree.measure()[BYTES];
+    }
+
+    /**
+     * Get the char at the given index.
+     * @param index The number of chars before the one to get.
+     * @return The char at the given index.
+     * @throws IndexOutOfBoundsException if the index is negative or not less
+     * than this rope's length.
+     */
+    @Override
+    public char charAt(final int index)
+    {
+        Position p = this.last;
+        if (null == p || index < p.start || index >= p.start + p.leaf.chars.length)
+        {
+            checkRange(index, index + 1, length());
+            final Past past = new Past(CHARS, index);
+            final Leaf leaf = this.tree.lookup(past);
+            p = new Position(leaf, (int) past.end[CHARS] - leaf.chars.length);
+            this.last = p;
+        }
+
+        return p.leaf.chars[index - p.start];
+    }
+
+    /**
+     * Find where a line starts.
+     * @param line The number of the line, counting from zero.
+     * @return The index of the first char of the line.
+     * @throws IndexOutOfBoundsException if the line is negative or not less
+     * than this rope's line count.
+     */
+    public int lineStart(final int line)
+    {
+        if (line < 0 || line >= lineCount())
+        {
+            throw new java.lang.IndexOutOfBoundsException(
+                "Rope.lineStart(): line " + line + " out of range");
+        }
+        if (0 == line)
+        {
+            return 0;
+        }
+
+        // Find the chunk holding the line break that ends the previous line,
+        // and then the break itself.
+        final Past past = new Past(LINES, line - 1);
+        final Leaf leaf = this.tree.lookup(past);
+        final int start = (int) past.end[CHARS] - leaf.chars.length;
+        int remaining = line - ((int) past.end[LINES] - leaf.lines);
+        int i = 0;
+        while (true)
+        {
+            if ('\n' == leaf.chars[i] && 0 == --remaining)
+            {
+                return start + i + 1;
+            }
+            ++i;
+        }
+    }
+
+    /**
+     * Insert text before the char at the given index.
+     * @param index The index before which to insert, which may be this rope's
+     * length to append.
+     * @param text The text to insert.
+     * @return A new rope with the given text inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public Rope insert(final int index, final CharSequence text)
+    {
+        checkRange(index, index, length());
+        final Halves halves = cut(index);
+        return new Rope(join(join(halves.left, build(text)), halves.right));
+    }
+
+    /**
+     * Delete a range of text.
+     * @param from The index of the first char to delete.
+     * @param to The index after the last char to delete.
+     * @return A new rope without the given range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public Rope delete(final int from, final int to)
+    {
+        checkRange(from, to, length());
+        if (from == to)
+        {
+            return this;
+        }
+
+        final Rope suffix = new Rope(cut(to).right);
+        return new Rope(join(cut(from).left, suffix.tree));
+    }
+
+    /**
+     * Append another rope, in O(log<sub>2</sub>(min(<i>n</i><sub>1</sub>,
+     * <i>n</i><sub>2</sub>))) time.
+     * @param that Some other rope.
+     * @return A new rope holding this rope's text and then that rope's.
+     */
+    public Rope append(final Rope that)
+    {
+        return new Rope(join(this.tree, that.tree));
+    }
+
+    /**
+     * Get a range of text, sharing this rope's chunks.
+     * @param from The index of the first char.
+     * @param to The index after the last char.
+     * @return A new rope holding the given range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public Rope substring(final int from, final int to)
+    {
+        checkRange(from, to, length());
+        return new Rope(new Rope(cut(to).left).cut(from).right);
+    }
+
+    @Override
+    public Rope subSequence(final int from, final int to)
+    {
+        return substring(from, to);
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder result = new StringBuilder(length());
+        for (final Leaf leaf : this.tree)
+        {
+            result.append(leaf.chars);
+        }
+        return result.toString();
+    }
+}
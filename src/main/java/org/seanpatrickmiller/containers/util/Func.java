@@ -2,10 +2,12 @@ package org.seanpatrickmiller.containers.util;
 
 /**
  * Describes a unary function mapping A to B.
+ * Every Func is also a {@link java.util.function.Function}, so one can be
+ * passed to any method that takes either.
  * @param <A> Domain type.
  * @param <B> Range type.
  */
-public interface Func<A, B>
+public interface Func<A, B> extends java.util.function.Function<A, B>
 {
     /**
      * The implementation of this function.
@@ -14,6 +16,12 @@ public interface Func<A, B>
      */
     B call(A a);
 
+    @Override
+    default B apply(final A a)
+    {
+        return call(a);
+    }
+
     /**
      * Swap the parameters of a Curried binary function.
      * @param f A Curried binary function.
@@ -0,0 +1,22 @@
+package org.seanpatrickmiller.containers.util;
+
+/**
+ * A monoid over primitive ints.
+ * Like {@link LongMonoid}, this sums two values in a single call without
+ * boxing or allocating anything.
+ * @see Monoids
+ */
+public interface IntMonoid
+{
+    /**
+     * Evaluate fully.
+     * @return Fully-evaluated result.
+     */
+    int sum(int a, int b);
+
+    /**
+     * This monoid's identity.
+     * @return This monoid's identity.
+     */
+    int zero();
+}
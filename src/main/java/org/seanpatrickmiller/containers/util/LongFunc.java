@@ -0,0 +1,15 @@
+package org.seanpatrickmiller.containers.util;
+
+/**
+ * Describes a unary function mapping A to a primitive long.
+ * @param <A> Domain type.
+ */
+public interface LongFunc<A>
+{
+    /**
+     * The implementation of this function.
+     * @param a A value from the domain.
+     * @return A value from the range.
+     */
+    long call(A a);
+}
@@ -0,0 +1,23 @@
+package org.seanpatrickmiller.containers.util;
+
+/**
+ * A monoid over primitive longs.
+ * Unlike {@link Monoid}, whose operation is Curried and whose values are
+ * objects, this sums two longs in a single call without boxing or allocating
+ * anything, which suits annotations that get summed at every node of a tree.
+ * @see Monoids
+ */
+public interface LongMonoid
+{
+    /**
+     * Evaluate fully.
+     * @return Fully-evaluated result.
+     */
+    long sum(long a, long b);
+
+    /**
+     * This monoid's identity.
+     * @return This monoid's identity.
+     */
+    long zero();
+}
@@ -9,10 +9,15 @@ import com.google.common.base.Objects;
  * simple example using this definition would be the set of integers, the
  * addition operation, and the additive identity, which we could write as
  * (Z, +, 0).
+ *
+ * <p>A monoid built from a Curried operation pays for a closure each time it
+ * sums two values. Built from a {@link Monoid2} instead, it sums through that
+ * in one call, and only builds closures for callers that ask for the Curried
+ * form.</p>
  * 
  * @param <A> The type over which this monoid is defined.
  */
-public final class Monoid<A>
+public final class Monoid<A> implements Monoid2<A>
 {
     // This monoid's operator.
     private final Func<A, Func<A, A>> op;
@@ -20,6 +25,10 @@ public final class Monoid<A>
     // This monoid's identity.
     private final A zero;
 
+    // The operation to sum through in one call, or null to use the Curried
+    // operator.
+    private final Monoid2<A> direct;
+
     /**
      * Constructs a Monoid instance.
      * @param op A Curried, binary function that satisfies associativity.
@@ -29,15 +38,38 @@ public final class Monoid<A>
     {
         this.op = op;
         this.zero = zero;
+        this.direct = null;
+    }
+
+    /**
+     * Constructs a Monoid instance from an uncurried one.
+     * @param direct A monoid that sums in a single call.
+     */
+    public Monoid(final Monoid2<A> direct)
+    {
+        this.op = new Func<A, Func<A, A>>() {
+            @Override
+            public Func<A, A> call(final A a) {
+                return new Func<A, A>() {
+                    @Override
+                    public A call(final A b) {
+                        return direct.sum(a, b);
+                    }
+                };
+            }
+        };
+        this.zero = direct.zero();
+        this.direct = direct;
     }
 
     /**
      * Evaluate fully.
      * @return Fully-evaluated result.
      */
+    @Override
     public A sum(final A a, final A b)
     {
-        return op.call(a).call(b);
+        return null == direct ? op.call(a).call(b) : direct.sum(a, b);
     }
 
     /**
@@ -62,6 +94,7 @@ public final class Monoid<A>
      * This monoid's identity.
      * @return This monoid's identity.
      */
+    @Override
     public A zero()
     {
         return this.zero;
@@ -87,6 +120,6 @@ public final class Monoid<A>
         
         final Monoid<A> other = (Monoid<A>) obj;
         return Objects.equal(zero, other.zero) &&
-            op == other.op;
+            (null == direct ? op == other.op : direct == other.direct);
     }
 }
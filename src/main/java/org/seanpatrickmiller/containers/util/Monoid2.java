@@ -0,0 +1,26 @@
+package org.seanpatrickmiller.containers.util;
+
+/**
+ * A monoid whose operation takes both arguments in one call.
+ * Summing through a Curried operation builds a closure around the first
+ * argument every time, which adds up when annotations are summed at every
+ * node of a tree. Measurements sum annotations through this interface, and
+ * {@link Monoid} implements it too, so either kind can be passed wherever a
+ * measurement needs a monoid.
+ * @param <A> The type over which this monoid is defined.
+ * @see Monoids
+ */
+public interface Monoid2<A>
+{
+    /**
+     * Evaluate fully.
+     * @return Fully-evaluated result.
+     */
+    A sum(A a, A b);
+
+    /**
+     * This monoid's identity.
+     * @return This monoid's identity.
+     */
+    A zero();
+}
@@ -2,9 +2,136 @@ package org.seanpatrickmiller.containers.util;
 
 public class Monoids
 {
+    /**
+     * Summation of ints.
+     */
+    public static final IntMonoid INT_SUM = new IntMonoid() {
+        @Override
+        public int sum(final int a, final int b) {
+            return a + b;
+        }
+
+        @Override
+        public int zero() {
+            return 0;
+        }
+    };
+
     /**
      * Summation.
      */
-    public static final Monoid<java.lang.Integer> SUM =
-        new Monoid<>(Functions.ADD, 0);
+    public static final Monoid<java.lang.Integer> SUM = boxed(INT_SUM);
+
+    /**
+     * Polynomial hashing.
+     * Each value packs the hash of some run of elements into its high 32 bits
+     * and the run's multiplier, 31 to the power of the run's length, into its
+     * low 32 bits, so that runs combine as h(xs ++ ys) = h(xs) * 31^|ys| +
+     * h(ys) with all arithmetic wrapping. A single element x measures as
+     * (x.hashCode(), 31), and adding the two halves of a run's value gives
+     * the same hash that {@link java.util.List#hashCode()} would.
+     */
+    public static final Monoid<java.lang.Long> HASH =
+        new Monoid<>(new Monoid2<java.lang.Long>() {
+            @Override
+            public java.lang.Long sum(final java.lang.Long a, final java.lang.Long b) {
+                final int ha = (int)(a >>> 32);
+                final int pa = (int)(long)a;
+                final int hb = (int)(b >>> 32);
+                final int pb = (int)(long)b;
+                return ((long)(ha * pb + hb) << 32) | ((pa * pb) & 0xFFFFFFFFL);
+            }
+
+            @Override
+            public java.lang.Long zero() {
+                return 1L;
+            }
+        });
+
+    /**
+     * Summation of longs.
+     */
+    public static final LongMonoid LONG_SUM = new LongMonoid() {
+        @Override
+        public long sum(final long a, final long b) {
+            return a + b;
+        }
+
+        @Override
+        public long zero() {
+            return 0;
+        }
+    };
+
+    /**
+     * Maximum of longs.
+     */
+    public static final LongMonoid LONG_MAX = new LongMonoid() {
+        @Override
+        public long sum(final long a, final long b) {
+            return Math.max(a, b);
+        }
+
+        @Override
+        public long zero() {
+            return Long.MIN_VALUE;
+        }
+    };
+
+    /**
+     * Minimum of longs.
+     */
+    public static final LongMonoid LONG_MIN = new LongMonoid() {
+        @Override
+        public long sum(final long a, final long b) {
+            return Math.min(a, b);
+        }
+
+        @Override
+        public long zero() {
+            return Long.MAX_VALUE;
+        }
+    };
+
+    /**
+     * Wrap a monoid over primitive ints as one over boxed ints, which sums in
+     * a single call rather than through a Curried operation.
+     * @param monoid Some monoid over ints.
+     * @return The same monoid over boxed ints.
+     */
+    public static Monoid<java.lang.Integer> boxed(final IntMonoid monoid)
+    {
+        return new Monoid<>(new Monoid2<java.lang.Integer>() {
+            @Override
+            public java.lang.Integer sum(final java.lang.Integer a, final java.lang.Integer b) {
+                return monoid.sum(a, b);
+            }
+
+            @Override
+            public java.lang.Integer zero() {
+                return monoid.zero();
+            }
+        });
+    }
+
+    /**
+     * Wrap a monoid over primitive longs as one over boxed longs, which sums
+     * in a single call rather than through a Curried operation.
+     * @param monoid Some monoid over longs.
+     * @return The same monoid over boxed longs.
+     */
+    public static Monoid<java.lang.Long> boxed(final LongMonoid monoid)
+    {
+        return new Monoid<>(new Monoid2<java.lang.Long>() {
+            @Override
+            public java.lang.Long sum(final java.lang.Long a, final java.lang.Long b) {
+                return monoid.sum(a, b);
+            }
+
+            @Override
+            public java.lang.Long zero() {
+                return monoid.zero();
+            }
+        });
+    }
 }
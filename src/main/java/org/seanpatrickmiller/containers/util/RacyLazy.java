@@ -0,0 +1,84 @@
+package org.seanpatrickmiller.containers.util;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Lock-free representation of a suspended, pure evaluation.
+ * Unlike {@link Lazy}, this never blocks: every thread that finds the value
+ * missing evaluates the thunk for itself, then tries to publish its result
+ * with a single compare-and-set. The first result published wins, and every
+ * thread returns that one, so callers all see the same instance even though
+ * the thunk may have run more than once. That is only sound when
+ * {@link #eval()} is pure and cheap enough to repeat now and then, as the
+ * measurements of a finger tree are. In exchange, many threads reading a
+ * freshly built structure never serialize on a monitor, and no instance ever
+ * needs an inflated lock.
+ *
+ * @param <T> The type of the value this thunk will yield.
+ */
+public abstract class RacyLazy<T>
+{
+    // The updater can only be made from the raw class literal, and it never
+    // touches anything but the untyped value field.
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<RacyLazy, Object> VALUE =
+        AtomicReferenceFieldUpdater.newUpdater(RacyLazy.class, Object.class, "value");
+
+    /**
+     * The published result of {@link #eval()}, or null until there is one.
+     */
+    private volatile Object value = null;
+
+    /**
+     * Empty c-tor.
+     */
+    protected RacyLazy()
+    {
+        // pass
+    }
+
+    /**
+     * Override this method to calculate and to return some value that will be
+     * stored as this thunk's value. It may be called more than once, possibly
+     * at the same time from several threads, and must not return null.
+     * @return This thunk's value.
+     */
+    protected abstract T eval();
+
+    /**
+     * Evaluate this thunk, if necessary, and return the result.
+     * @return The first result of {@link #eval()} to be published.
+     */
+    @SuppressWarnings("unchecked")
+    public final T getValue()
+    {
+        // Only results of eval() are ever stored, so the value is a T.
+
+        // Volatile read.
+        final Object temp = value;
+        if (null != temp)
+        {
+            return (T) temp;
+        }
+
+        final T result = eval();
+        if (VALUE.compareAndSet(this, null, result))
+        {
+            return result;
+        }
+
+        // Somebody else got there first, so use theirs.
+        return (T) value;
+    }
+
+    /**
+     * Returns this thunk's value as a string, without forcing it.
+     * @return This thunk's value as a string.
+     */
+    @Override
+    public java.lang.String toString()
+    {
+        final Object temp = value;
+        return (null == temp) ? "Thunktacular, man!" : temp.toString();
+    }
+}
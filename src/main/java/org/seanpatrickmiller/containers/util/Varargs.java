@@ -0,0 +1,30 @@
+package org.seanpatrickmiller.containers.util;
+
+/**
+ * Helpers for factory methods that take a first element and then any number
+ * of others.
+ */
+public final class Varargs
+{
+    private Varargs()
+    {
+        // pass
+    }
+
+    /**
+     * Gather a first element and the rest into one new array.
+     * The rest are only read, so a caller may pass its own varargs array
+     * straight through.
+     * @param first The element to put first.
+     * @param rest The elements to put after it, in order.
+     * @return A new array of the same runtime type as rest, holding first and
+     * then every element of rest.
+     */
+    public static <A> A[] prepend(final A first, final A[] rest)
+    {
+        final A[] all = java.util.Arrays.copyOf(rest, rest.length + 1);
+        System.arraycopy(rest, 0, all, 1, rest.length);
+        all[0] = first;
+        return all;
+    }
+}
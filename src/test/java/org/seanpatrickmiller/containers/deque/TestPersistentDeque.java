@@ -0,0 +1,125 @@
+package org.seanpatrickmiller.containers.deque;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TestPersistentDeque
+{
+    private static <A> List<A> toList(final Iterator<A> it)
+    {
+        final List<A> result = new ArrayList<>();
+        while (it.hasNext())
+        {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    @Test
+    public void testRandomOperations()
+    {
+        final Random rand = new Random(20170101);
+        final ArrayDeque<Integer> expected = new ArrayDeque<>();
+        PersistentDeque<Integer> deque = new DequeFactory<Integer>().makeEmpty();
+
+        for (int i = 0; i < 20000; ++i)
+        {
+            final int choice = rand.nextInt(10);
+            if (choice < 3)
+            {
+                deque = deque.pushFront(i);
+                expected.addFirst(i);
+            }
+            else if (choice < 6)
+            {
+                deque = deque.pushBack(i);
+                expected.addLast(i);
+            }
+            else if (expected.isEmpty())
+            {
+                assertTrue(deque.isEmpty());
+            }
+            else if (choice < 8)
+            {
+                final PersistentDeque.Pop<Integer> pop = deque.popFront();
+                assertEquals(pop.element, expected.pollFirst());
+                deque = pop.rest;
+            }
+            else
+            {
+                final PersistentDeque.Pop<Integer> pop = deque.popBack();
+                assertEquals(pop.element, expected.pollLast());
+                deque = pop.rest;
+            }
+
+            assertEquals(deque.size(), expected.size());
+            if (!expected.isEmpty())
+            {
+                assertEquals(deque.peekFirst(), expected.peekFirst());
+                assertEquals(deque.peekLast(), expected.peekLast());
+            }
+        }
+
+        assertEquals(toList(deque.iterator()), new ArrayList<>(expected));
+        assertEquals(toList(deque.descendingIterator()),
+            toList(expected.descendingIterator()));
+    }
+
+    @Test
+    public void testDrain()
+    {
+        final DequeFactory<Integer> factory = new DequeFactory<>();
+        final Integer[] elements = new Integer[5000];
+        for (int i = 0; i < elements.length; ++i)
+        {
+            elements[i] = i;
+        }
+
+        final PersistentDeque<Integer> original = factory.fromArray(elements);
+
+        PersistentDeque<Integer> deque = original;
+        for (int i = 0; i < elements.length; ++i)
+        {
+            final PersistentDeque.Pop<Integer> pop = deque.popFront();
+            assertEquals(pop.element.intValue(), i);
+            deque = pop.rest;
+        }
+        assertTrue(deque.isEmpty());
+
+        deque = original;
+        for (int i = elements.length - 1; i >= 0; --i)
+        {
+            final PersistentDeque.Pop<Integer> pop = deque.popBack();
+            assertEquals(pop.element.intValue(), i);
+            deque = pop.rest;
+        }
+        assertTrue(deque.isEmpty());
+
+        assertEquals(toList(original.iterator()), Arrays.asList(elements));
+    }
+
+    @Test
+    public void testAppend()
+    {
+        final DequeFactory<Integer> factory = new DequeFactory<>();
+        final PersistentDeque<Integer> deque =
+            factory.make(1, 2, 3).append(factory.make(4, 5));
+
+        assertEquals(toList(deque.iterator()), Arrays.asList(1, 2, 3, 4, 5));
+        assertEquals(deque.size(), 5);
+    }
+
+    @Test(expectedExceptions=java.util.NoSuchElementException.class)
+    public void testPopEmpty()
+    {
+        new DequeFactory<Integer>().makeEmpty().popFront();
+    }
+}
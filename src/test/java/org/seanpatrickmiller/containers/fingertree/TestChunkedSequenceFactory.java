@@ -0,0 +1,38 @@
+package org.seanpatrickmiller.containers.fingertree;
+
+import java.util.Arrays;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Runs every sequence test again with elements packed into chunks, using a
+ * narrow chunk so that the small sequences in those tests still span several.
+ */
+public class TestChunkedSequenceFactory extends TestSequenceFactory
+{
+    @Override
+    protected SequenceFactory<Integer> makeFactory()
+    {
+        return new SequenceFactory<>(4);
+    }
+
+    @Test
+    public void testAppendUnchunked()
+    {
+        final SequenceFactory<Integer> plain = new SequenceFactory<>();
+        final Sequence<Integer> chunked = makeFactory().make(1, 2, 3, 4, 5, 6);
+        final Sequence<Integer> unchunked = plain.make(7, 8, 9, 10, 11, 12);
+
+        assertEquals(toList(chunked.append(unchunked)),
+            Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12));
+        assertEquals(toList(unchunked.append(chunked)),
+            Arrays.asList(7, 8, 9, 10, 11, 12, 1, 2, 3, 4, 5, 6));
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void testChunkSizeOne()
+    {
+        new SequenceFactory<Integer>(1);
+    }
+}
@@ -0,0 +1,221 @@
+package org.seanpatrickmiller.containers.fingertree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.seanpatrickmiller.containers.fingertree.impl.Empty;
+import org.seanpatrickmiller.containers.fingertree.impl.Measured;
+import org.seanpatrickmiller.containers.util.Func;
+import org.seanpatrickmiller.containers.util.Monoids;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class TestConcurrentSequence
+{
+    @Test
+    public void testConcurrentWriters() throws InterruptedException
+    {
+        final int writers = 4;
+        final int edits = 20000;
+        final SequenceFactory<Integer> factory = new SequenceFactory<>();
+        final ConcurrentSequence<Integer> shared =
+            new ConcurrentSequence<>(factory.makeEmpty());
+        final CountDownLatch start = new CountDownLatch(1);
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < writers; ++t)
+        {
+            final int id = t;
+            final Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        start.await();
+                    }
+                    catch (final InterruptedException e)
+                    {
+                        return;
+                    }
+
+                    for (int i = 0; i < edits; ++i)
+                    {
+                        if (i % 100 == 99)
+                        {
+                            shared.append(factory.make(id * edits + i));
+                        }
+                        else
+                        {
+                            shared.pushBack(id * edits + i);
+                        }
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        start.countDown();
+
+        // Snapshots only ever grow while the writers run.
+        int previous = 0;
+        while (shared.size() < writers * edits)
+        {
+            final int size = shared.snapshot().size();
+            assertTrue(size >= previous);
+            previous = size;
+            Thread.yield();
+        }
+
+        for (final Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        // Every element arrived once, and each writer's in the order written.
+        final int[] next = new int[writers];
+        for (final Integer x : shared.snapshot())
+        {
+            final int id = x / edits;
+            assertEquals(x % edits, next[id]);
+            ++next[id];
+        }
+        for (int t = 0; t < writers; ++t)
+        {
+            assertEquals(next[t], edits);
+        }
+    }
+
+    @Test
+    public void testEditVisibleOnReturn()
+    {
+        final ConcurrentSequence<Integer> shared =
+            new ConcurrentSequence<>(new SequenceFactory<Integer>().make(1));
+
+        shared.pushBack(2);
+        assertEquals(TestSequenceFactory.toList(shared.snapshot()).size(), 2);
+        assertEquals(shared.snapshot().last().intValue(), 2);
+    }
+
+    @Test
+    public void testFailedEditTakesNoEffect()
+    {
+        // Measures each element as it is built into the tree, refusing
+        // negative ones.
+        final Measured<java.lang.Long, Integer> positive = new Measured<>(
+            Monoids.HASH,
+            new Func<Integer, java.lang.Long>() {
+                @Override
+                public java.lang.Long call(final Integer x)
+                {
+                    if (x < 0)
+                    {
+                        throw new java.lang.IllegalArgumentException("negative");
+                    }
+                    return (long) x;
+                }
+            },
+            true);
+        final ConcurrentSequence<Integer> shared = new ConcurrentSequence<>(
+            new Sequence<Integer>(new Empty<>(positive), new SequenceFactory<Integer>().makeEmpty()));
+
+        shared.pushBack(1);
+        try
+        {
+            shared.pushBack(-1);
+            fail("expected the edit to fail");
+        }
+        catch (final java.lang.IllegalArgumentException e)
+        {
+            assertEquals(e.getMessage(), "negative");
+        }
+
+        // The failed edit left the sequence as it was, and later edits apply.
+        assertEquals(TestSequenceFactory.toList(shared.snapshot()), java.util.Arrays.asList(1));
+        shared.pushBack(2);
+        assertEquals(TestSequenceFactory.toList(shared.snapshot()), java.util.Arrays.asList(1, 2));
+    }
+
+    @Test
+    public void testFailureReachesEveryWriterInTheBatch() throws InterruptedException
+    {
+        // Measuring 0 holds up whoever is combining, so that the edits made
+        // meanwhile are applied together in the next batch.
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Measured<java.lang.Long, Integer> positive = new Measured<>(
+            Monoids.HASH,
+            new Func<Integer, java.lang.Long>() {
+                @Override
+                public java.lang.Long call(final Integer x)
+                {
+                    if (0 == x)
+                    {
+                        blocked.countDown();
+                        try
+                        {
+                            release.await();
+                        }
+                        catch (final InterruptedException e)
+                        {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    if (x < 0)
+                    {
+                        throw new java.lang.IllegalArgumentException("negative");
+                    }
+                    return (long) x;
+                }
+            },
+            true);
+        final ConcurrentSequence<Integer> shared = new ConcurrentSequence<>(
+            new Sequence<Integer>(new Empty<>(positive), new SequenceFactory<Integer>().makeEmpty()));
+
+        final int[] pushed = { 0, -1, 3 };
+        final java.lang.Throwable[] thrown = new java.lang.Throwable[pushed.length];
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < pushed.length; ++t)
+        {
+            final int id = t;
+            threads.add(new Thread(new Runnable() {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        shared.pushBack(pushed[id]);
+                    }
+                    catch (final java.lang.Throwable e)
+                    {
+                        thrown[id] = e;
+                    }
+                }
+            }));
+        }
+
+        threads.get(0).start();
+        blocked.await();
+        threads.get(1).start();
+        threads.get(2).start();
+        Thread.sleep(100);
+        release.countDown();
+        for (final Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        // Each writer either saw its edit fail or finds it in the sequence.
+        final List<Integer> result = TestSequenceFactory.toList(shared.snapshot());
+        assertEquals(thrown[0], null);
+        assertTrue(thrown[1] instanceof java.lang.IllegalArgumentException);
+        for (int t = 0; t < pushed.length; ++t)
+        {
+            assertEquals(result.contains(pushed[t]), null == thrown[t]);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package org.seanpatrickmiller.containers.fingertree;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Random;
+import java.util.TreeSet;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TestOrderedSequence
+{
+    private final OrderedSequenceFactory<Integer> factory =
+        OrderedSequenceFactory.natural();
+
+    private static <A> List<A> toList(final Iterable<A> xs)
+    {
+        final List<A> list = new ArrayList<>();
+        for (final A a : xs)
+        {
+            list.add(a);
+        }
+        return list;
+    }
+
+    private OrderedSequence<Integer> randomSet(
+        final Random rand,
+        final int n,
+        final int bound,
+        final TreeSet<Integer> expected)
+    {
+        final Integer[] xs = new Integer[n];
+        for (int i = 0; i < n; ++i)
+        {
+            xs[i] = rand.nextInt(bound);
+            expected.add(xs[i]);
+        }
+        return factory.fromArray(xs);
+    }
+
+    @Test
+    public void testInsertDeleteContains()
+    {
+        final Random rand = new Random(7);
+        final TreeSet<Integer> expected = new TreeSet<>();
+        OrderedSequence<Integer> set = factory.makeEmpty();
+        for (int i = 0; i < 3000; ++i)
+        {
+            final int x = rand.nextInt(500);
+            if (rand.nextInt(3) > 0)
+            {
+                set = set.insert(x);
+                expected.add(x);
+            }
+            else
+            {
+                set = set.delete(x);
+                expected.remove(x);
+            }
+
+            assertEquals(set.size(), expected.size());
+            final int probe = rand.nextInt(500);
+            assertEquals(set.contains(probe), expected.contains(probe));
+        }
+
+        assertEquals(toList(set), new ArrayList<>(expected));
+        assertEquals(set.first(), expected.first());
+        assertEquals(set.last(), expected.last());
+    }
+
+    @Test
+    public void testFromArray()
+    {
+        final OrderedSequence<Integer> set = factory.make(5, 3, 9, 3, 1, 9);
+        assertEquals(toList(set), java.util.Arrays.asList(1, 3, 5, 9));
+    }
+
+    @Test
+    public void testRangeQueryAndPartition()
+    {
+        final TreeSet<Integer> expected = new TreeSet<>();
+        final OrderedSequence<Integer> set = randomSet(new Random(11), 400, 1000, expected);
+        for (int from = -10; from < 1010; from += 37)
+        {
+            for (int to = from - 50; to < 1010; to += 91)
+            {
+                final List<Integer> range = from < to ?
+                    new ArrayList<>(expected.subSet(from, to)) :
+                    new ArrayList<Integer>();
+                assertEquals(toList(set.rangeQuery(from, to)), range);
+            }
+
+            final OrderedSequence.Partition<Integer> parts = set.partition(from);
+            assertEquals(toList(parts.left), new ArrayList<>(expected.headSet(from)));
+            assertEquals(toList(parts.right), new ArrayList<>(expected.tailSet(from)));
+        }
+    }
+
+    @Test
+    public void testSetOperations()
+    {
+        final Random rand = new Random(13);
+        final int[][] shapes = { {0, 0}, {0, 50}, {50, 0}, {1, 1000}, {1000, 3}, {500, 500}, {2000, 40} };
+        for (final int[] shape : shapes)
+        {
+            final TreeSet<Integer> xs = new TreeSet<>();
+            final TreeSet<Integer> ys = new TreeSet<>();
+            final OrderedSequence<Integer> a = randomSet(rand, shape[0], 3000, xs);
+            final OrderedSequence<Integer> b = randomSet(rand, shape[1], 3000, ys);
+
+            final TreeSet<Integer> union = new TreeSet<>(xs);
+            union.addAll(ys);
+            final TreeSet<Integer> intersection = new TreeSet<>(xs);
+            intersection.retainAll(ys);
+            final TreeSet<Integer> difference = new TreeSet<>(xs);
+            difference.removeAll(ys);
+
+            assertEquals(toList(a.union(b)), new ArrayList<>(union));
+            assertEquals(toList(b.union(a)), new ArrayList<>(union));
+            assertEquals(toList(a.intersection(b)), new ArrayList<>(intersection));
+            assertEquals(toList(b.intersection(a)), new ArrayList<>(intersection));
+            assertEquals(toList(a.difference(b)), new ArrayList<>(difference));
+            assertEquals(a.union(b).size(), union.size());
+        }
+    }
+
+    @Test
+    public void testMapEntries()
+    {
+        final OrderedSequenceFactory<Map.Entry<String, Integer>> maps =
+            new OrderedSequenceFactory<>(new Comparator<Map.Entry<String, Integer>>() {
+                @Override
+                public int compare(
+                    final Map.Entry<String, Integer> a,
+                    final Map.Entry<String, Integer> b)
+                {
+                    return a.getKey().compareTo(b.getKey());
+                }
+            });
+
+        final OrderedSequence<Map.Entry<String, Integer>> older = maps.make(
+            new SimpleImmutableEntry<>("a", 1), new SimpleImmutableEntry<>("b", 2));
+        final OrderedSequence<Map.Entry<String, Integer>> newer = maps.make(
+            new SimpleImmutableEntry<>("b", 20), new SimpleImmutableEntry<>("c", 30));
+
+        // Union and intersection keep the entries of the receiver.
+        assertEquals(newer.union(older).find(probe("b")).getValue().intValue(), 20);
+        assertEquals(older.union(newer).find(probe("b")).getValue().intValue(), 2);
+        assertEquals(newer.intersection(older).find(probe("b")).getValue().intValue(), 20);
+        assertEquals(older.insert(new SimpleImmutableEntry<>("a", 10))
+            .find(probe("a")).getValue().intValue(), 10);
+        assertTrue(null == older.find(probe("c")));
+    }
+
+    private static Map.Entry<String, Integer> probe(final String key)
+    {
+        return new SimpleImmutableEntry<>(key, null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void testFromArrayNull()
+    {
+        // Even when the comparator could place it, null is refused.
+        new OrderedSequenceFactory<Integer>(Comparator.nullsFirst(Comparator.<Integer>naturalOrder()))
+            .fromArray(new Integer[] { 2, null, 1 });
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void testMakeNull()
+    {
+        factory.make(1, null);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void testUnionOtherFactory()
+    {
+        factory.make(1).union(OrderedSequenceFactory.<Integer>natural().make(2));
+    }
+
+    @Test
+    public void testEquals()
+    {
+        assertEquals(factory.make(1, 2, 3), factory.make(3, 2, 1));
+        assertEquals(factory.make(1, 2, 3).hashCode(), factory.make(3, 2, 1).hashCode());
+        assertTrue(!factory.make(1, 2).equals(factory.make(1, 2, 3)));
+    }
+}
@@ -3,12 +3,18 @@ package org.seanpatrickmiller.containers.fingertree;
 import com.google.common.testing.EqualsTester;
 import java.util.Arrays;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import org.seanpatrickmiller.containers.fingertree.impl.FingerTree;
+import org.seanpatrickmiller.containers.util.Func;
 import org.seanpatrickmiller.containers.util.Identity;
+import org.seanpatrickmiller.containers.util.Monoid;
+import org.seanpatrickmiller.containers.util.Monoids;
 import org.seanpatrickmiller.containers.util.Functions;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
@@ -26,7 +32,12 @@ public class TestSequenceFactory
     public void setup()
     {
         // Reuse factory across test cases.
-        factory = new SequenceFactory<>();
+        factory = makeFactory();
+    }
+
+    protected SequenceFactory<Integer> makeFactory()
+    {
+        return new SequenceFactory<>();
     }
 
     @BeforeMethod
@@ -48,6 +59,42 @@ public class TestSequenceFactory
         }
     }
 
+    @Test
+    public void testIterationEverywhere()
+    {
+        Sequence<Integer> front = factory.makeEmpty();
+        for (int n = 0; n < 100; ++n)
+        {
+            for (final Sequence<Integer> s : Arrays.asList(seq, front))
+            {
+                int expected = 0;
+                for (final Integer i : s)
+                {
+                    assertEquals(i, Integer.valueOf(expected++));
+                }
+                assertEquals(expected, n);
+
+                final Iterator<Integer> iter = s.descendingIterator();
+                while (iter.hasNext())
+                {
+                    assertEquals(iter.next(), Integer.valueOf(--expected));
+                }
+                assertEquals(expected, 0);
+            }
+
+            seq = seq.pushBack(n);
+            front = front.map(Functions.ADD.call(1)).pushFront(0);
+        }
+    }
+
+    @Test(expectedExceptions=NoSuchElementException.class)
+    public void testIterationPastEnd()
+    {
+        final Iterator<Integer> iter = factory.make(1).iterator();
+        iter.next();
+        iter.next();
+    }
+
     @Test
     public void testSpliteratorInterface()
     {
@@ -68,14 +115,18 @@ public class TestSequenceFactory
                 }
             };
 
+        final long upperSize = iter.getExactSizeIfKnown();
         iter.forEachRemaining(pusher);
-        assertEquals(list.size(), iter.getExactSizeIfKnown());
+        assertEquals(list.size(), upperSize);
         assertEquals(list, Arrays.asList(9, 43, 60));
+        assertEquals(iter.getExactSizeIfKnown(), 0);
 
         list.clear();
+        final long lowerSize = lower.getExactSizeIfKnown();
         lower.forEachRemaining(pusher);
-        assertEquals(list.size(), lower.getExactSizeIfKnown());
+        assertEquals(list.size(), lowerSize);
         assertEquals(list, Arrays.asList(84, 17));
+        assertEquals(lower.getExactSizeIfKnown(), 0);
     }
 
     @Test
@@ -89,6 +140,107 @@ public class TestSequenceFactory
         assertEquals(actualSum, expectedSum);
     }
 
+    @Test
+    public void testFromArray()
+    {
+        for (int n = 0; n < 200; ++n)
+        {
+            final Integer[] array = new Integer[n];
+            Sequence<Integer> expected = factory.makeEmpty();
+            for (int i = 0; i < n; ++i)
+            {
+                array[i] = i;
+                expected = expected.pushBack(i);
+            }
+
+            final Sequence<Integer> actual = factory.fromArray(array);
+            assertEquals(actual.size(), expected.size());
+            assertEquals(actual, expected);
+            for (int i = 0; i < n; ++i)
+            {
+                assertEquals(actual.at(i), array[i]);
+            }
+
+            // The result must remain a well-formed tree.
+            assertEquals(actual.pushFront(-1).pushBack(n).size(), n + 2);
+        }
+    }
+
+    @Test
+    public void testFromCollection()
+    {
+        final List<Integer> list = Arrays.asList(5, 4, 3, 2, 1, 0, 9, 8, 7, 6);
+        assertEquals(toList(factory.fromCollection(list)), list);
+    }
+
+    @Test
+    public void testFromIterator()
+    {
+        final List<Integer> list = Arrays.asList(5, 4, 3, 2, 1, 0, 9, 8, 7, 6);
+        assertEquals(toList(factory.fromIterator(list.iterator())), list);
+    }
+
+    @Test
+    public void testFromSpliterator()
+    {
+        final List<Integer> list = Arrays.asList(5, 4, 3, 2, 1, 0, 9, 8, 7, 6);
+        assertEquals(toList(factory.fromSpliterator(list.spliterator())), list);
+    }
+
+    @Test
+    public void testSpliteratorRecursive()
+    {
+        for (int n = 0; n < 200; ++n)
+        {
+            final List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < n; ++i)
+            {
+                expected.add(i);
+            }
+
+            final List<Integer> actual = new ArrayList<>();
+            drain(factory.fromCollection(expected).spliterator(), actual);
+            assertEquals(actual, expected);
+        }
+    }
+
+    @Test
+    public void testSpliteratorBalance()
+    {
+        final List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 100000; ++i)
+        {
+            list.add(i);
+            seq = seq.pushBack(i);
+        }
+
+        for (final Sequence<Integer> s :
+            Arrays.asList(seq, factory.fromCollection(list)))
+        {
+            final Spliterator<Integer> upper = s.spliterator();
+            final Spliterator<Integer> lower = upper.trySplit();
+            assertTrue(4 * lower.estimateSize() >= list.size());
+            assertTrue(4 * upper.estimateSize() >= list.size());
+            assertEquals(lower.estimateSize() + upper.estimateSize(),
+                list.size());
+        }
+    }
+
+    @Test
+    public void testParallelStream()
+    {
+        final List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 100000; ++i)
+        {
+            list.add(i);
+        }
+
+        seq = factory.fromCollection(list);
+        assertEquals(seq.parallelStream().mapToLong(i -> i).sum(),
+            list.stream().mapToLong(i -> i).sum());
+        assertEquals(seq.parallelStream().collect(Collectors.toList()), list);
+    }
+
     @Test
     public void testHead()
     {
@@ -155,6 +307,28 @@ public class TestSequenceFactory
         }
     }
 
+    @Test
+    public void testConcatAll()
+    {
+        // Pieces of every size from 0 to 30, each continuing the count.
+        final List<Sequence<Integer>> pieces = new ArrayList<>();
+        final List<Integer> expected = new ArrayList<>();
+        for (int n = 0; n <= 30; ++n)
+        {
+            Sequence<Integer> piece = factory.makeEmpty();
+            for (int i = 0; i < n; ++i)
+            {
+                piece = piece.pushBack(expected.size());
+                expected.add(expected.size());
+            }
+            pieces.add(piece);
+        }
+
+        assertEquals(toList(seq.concatAll(pieces)), expected);
+        assertEquals(toList(pieces.get(30).concatAll(pieces.subList(0, 30))).size(), expected.size());
+        assertEquals(seq.concatAll(new ArrayList<Sequence<Integer>>()).size(), 0);
+    }
+
     @Test
     public void testAppend()
     {
@@ -214,6 +388,53 @@ public class TestSequenceFactory
         }
     }
 
+    @Test
+    public void testMapToOtherType()
+    {
+        for (int i = 0; i < 100; ++i)
+        {
+            seq = seq.pushBack(i);
+        }
+
+        final Sequence<String> result = seq.map(new Func<Integer, String>() {
+            @Override
+            public String call(final Integer x) {
+                return "#" + x;
+            }
+        });
+
+        assertEquals(result.size(), 100);
+        for (int i = 0; i < 100; ++i)
+        {
+            assertEquals(result.at(i), "#" + i);
+        }
+        assertEquals(result.pushBack("end").at(100), "end");
+    }
+
+    @Test
+    public void testParallelMap()
+    {
+        final Integer[] xs = new Integer[200000];
+        for (int i = 0; i < xs.length; ++i)
+        {
+            xs[i] = i;
+        }
+        seq = factory.fromArray(xs);
+
+        final Func<Integer, Long> square = new Func<Integer, Long>() {
+            @Override
+            public Long call(final Integer x) {
+                return (long)x * x;
+            }
+        };
+
+        final Sequence<Long> expected = seq.map(square);
+        final Sequence<Long> actual = seq.parallelMap(square);
+        assertEquals(toList(actual), toList(expected));
+        assertEquals(actual.at(123456).longValue(), 123456L * 123456L);
+        assertEquals(factory.makeEmpty().parallelMap(square).size(), 0);
+    }
+
     @Test
     public void testFold()
     {
@@ -229,6 +450,109 @@ public class TestSequenceFactory
         assertEquals(seq.foldLeft(Functions.SUB, 2), Integer.valueOf(-8));
     }
 
+    @Test
+    public void testStandardFunctions()
+    {
+        final List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 2000; ++i)
+        {
+            seq = seq.pushBack(i);
+            list.add(i);
+        }
+
+        // The folds visit every element once, in order, through every level.
+        final List<Integer> forward = seq.foldLeft(
+            (final List<Integer> acc, final Integer x) -> { acc.add(x); return acc; },
+            new ArrayList<Integer>());
+        assertEquals(forward, list);
+        final List<Integer> backward = seq.foldRight(
+            (final Integer x, final List<Integer> acc) -> { acc.add(x); return acc; },
+            new ArrayList<Integer>());
+        assertEquals(backward.size(), list.size());
+        assertEquals(backward.get(0), Integer.valueOf(1999));
+        assertEquals(backward.get(1999), Integer.valueOf(0));
+
+        assertEquals(seq.foldLeft((Long acc, Integer x) -> acc - x, 0L),
+            Long.valueOf(-1999L * 2000 / 2));
+        assertEquals(seq.reduce("", (a, b) -> a + b, x -> x < 3 ? x.toString() : ""),
+            "012");
+        assertEquals(seq.sumInt(x -> x), 1999 * 2000 / 2);
+        assertEquals(seq.sumLong(x -> (long) x * x),
+            list.stream().mapToLong(x -> (long) x * x).sum());
+
+        final java.util.function.Function<Object, String> show = Object::toString;
+        assertEquals(toList(seq.map(show)).get(1234), "1234");
+        assertEquals(toList(seq.map(x -> x * 2)).get(1000), Integer.valueOf(2000));
+        assertEquals(toList(seq.parallelMap(show)), toList(seq.map(show)));
+    }
+
+    // Composition of maps x -> a*x + b modulo a prime, which is associative
+    // but not commutative, so it also checks that order is kept.
+    private static final long PRIME = 1000000007L;
+
+    private static final Monoid<long[]> AFFINE = new Monoid<>(
+        new Func<long[], Func<long[], long[]>>() {
+            @Override
+            public Func<long[], long[]> call(final long[] f) {
+                return new Func<long[], long[]>() {
+                    @Override
+                    public long[] call(final long[] g) {
+                        return new long[] {
+                            g[0] * f[0] % PRIME,
+                            (g[0] * f[1] + g[1]) % PRIME
+                        };
+                    }
+                };
+            }
+        }, new long[] { 1, 0 });
+
+    private static final Func<Integer, long[]> TO_AFFINE = new Func<Integer, long[]>() {
+        @Override
+        public long[] call(final Integer x) {
+            return new long[] { x % 5 + 2, x };
+        }
+    };
+
+    private static long[] affineOf(final int count)
+    {
+        long[] expected = AFFINE.zero();
+        for (int i = 0; i < count; ++i)
+        {
+            expected = AFFINE.sum(expected, TO_AFFINE.call(i));
+        }
+        return expected;
+    }
+
+    @Test
+    public void testReduce()
+    {
+        for (int n = 0; n < 300; ++n)
+        {
+            assertEquals(seq.reduce(AFFINE, TO_AFFINE), affineOf(n));
+            seq = seq.pushBack(n);
+        }
+
+        assertEquals(seq.reduce(Monoids.SUM, new Identity<Integer>()),
+            Integer.valueOf(300 * 299 / 2));
+    }
+
+    @Test
+    public void testParallelReduce()
+    {
+        final Integer[] xs = new Integer[200000];
+        for (int i = 0; i < xs.length; ++i)
+        {
+            xs[i] = i;
+        }
+        seq = factory.fromArray(xs);
+
+        assertEquals(seq.parallelReduce(AFFINE, TO_AFFINE), affineOf(xs.length));
+        assertEquals(seq.pushFront(-1).parallelReduce(AFFINE, TO_AFFINE),
+            seq.pushFront(-1).reduce(AFFINE, TO_AFFINE));
+        assertEquals(factory.makeEmpty().parallelReduce(AFFINE, TO_AFFINE),
+            AFFINE.zero());
+    }
+
     @Test
     public void testReverse()
     {
@@ -262,6 +586,58 @@ public class TestSequenceFactory
         assertEquals(seq.at(32), Integer.valueOf(33));
     }
 
+    @Test
+    public void testAtEverywhere()
+    {
+        for (int n = 0; n < 100; ++n)
+        {
+            for (int i = 0; i < n; ++i)
+            {
+                assertEquals(seq.at(i), Integer.valueOf(i));
+            }
+            seq = seq.pushBack(n);
+        }
+    }
+
+    @Test
+    public void testUpdateEverywhere()
+    {
+        for (int n = 1; n < 70; ++n)
+        {
+            seq = seq.pushBack(n - 1);
+            for (int i = 0; i < n; ++i)
+            {
+                final Sequence<Integer> updated = seq.update(i, -1);
+                final Sequence<Integer> adjusted = seq.adjust(i, Functions.ADD.call(100));
+                assertEquals(updated.size(), n);
+                for (int j = 0; j < n; ++j)
+                {
+                    assertEquals(updated.at(j).intValue(), i == j ? -1 : j);
+                    assertEquals(adjusted.at(j).intValue(), i == j ? j + 100 : j);
+                    assertEquals(seq.at(j).intValue(), j);
+                }
+            }
+        }
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void testUpdatePastEnd()
+    {
+        seq.pushBack(1).update(1, 2);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void testAtNegative()
+    {
+        factory.make(1, 2, 3).at(-1);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void testAtPastEnd()
+    {
+        factory.make(1, 2, 3).at(3);
+    }
+
     @Test
     public void testInsert()
     {
@@ -294,6 +670,74 @@ public class TestSequenceFactory
         assertTrue(seq.isEmpty());
     }
 
+    @Test
+    public void testInsertAll()
+    {
+        final List<Integer> block = Arrays.asList(-1, -2, -3, -4, -5, -6, -7, -8, -9);
+        for (int n = 0; n < 40; ++n)
+        {
+            final List<Integer> base = toList(seq);
+            for (int i = 0; i <= n; ++i)
+            {
+                final List<Integer> expected = new ArrayList<>(base);
+                expected.addAll(i, block);
+
+                assertEquals(toList(seq.insertAll(i, block)), expected);
+                assertEquals(toList(seq.insertAll(i, factory.fromCollection(block))), expected);
+                assertEquals(toList(seq.insertAll(i, (Iterable<Integer>) block::iterator)), expected);
+            }
+            seq = seq.pushBack(n);
+        }
+    }
+
+    @Test
+    public void testDeleteRangeEverywhere()
+    {
+        for (int n = 0; n < 40; ++n)
+        {
+            final List<Integer> base = toList(seq);
+            for (int from = -1; from <= n + 1; ++from)
+            {
+                for (int to = from - 1; to <= n + 1; ++to)
+                {
+                    final List<Integer> expected = new ArrayList<>(base);
+                    final int lo = Math.max(from, 0);
+                    final int hi = Math.min(to, n);
+                    if (lo < hi)
+                    {
+                        expected.subList(lo, hi).clear();
+                    }
+
+                    assertEquals(toList(seq.deleteRange(from, to)), expected);
+                }
+            }
+            seq = seq.pushBack(n);
+        }
+    }
+
+    @Test
+    public void testReplaceRange()
+    {
+        for (int i = 0; i < 50; ++i)
+        {
+            seq = seq.pushBack(i);
+        }
+
+        final Sequence<Integer> patch = factory.make(-1, -2, -3);
+        final List<Integer> expected = new ArrayList<>(toList(seq));
+        expected.subList(10, 40).clear();
+        expected.addAll(10, Arrays.asList(-1, -2, -3));
+
+        assertEquals(toList(seq.replaceRange(10, 40, patch)), expected);
+        assertEquals(seq.replaceRange(10, 40, patch).size(), 23);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void testReplaceRangeNull()
+    {
+        seq.pushBack(1).replaceRange(0, 1, null);
+    }
+
     @Test
     public void testLength()
     {
@@ -303,7 +747,7 @@ public class TestSequenceFactory
             seq = seq.pushBack(i);
         }
 
-        assertEquals(seq.size(), Integer.valueOf(37));
+        assertEquals(seq.size(), 37);
     }
 
     @Test
@@ -348,6 +792,90 @@ public class TestSequenceFactory
         assertEquals(expected, 64);
     }
 
+    @Test
+    public void testSliceEverywhere()
+    {
+        final List<Integer> expected = new ArrayList<>();
+        for (int n = 0; n < 70; ++n)
+        {
+            final Integer[] array = expected.toArray(new Integer[0]);
+            for (final Sequence<Integer> s : Arrays.asList(seq, factory.fromArray(array)))
+            {
+                for (int from = -1; from <= n + 1; ++from)
+                {
+                    for (int to = from; to <= n + 1; ++to)
+                    {
+                        final int lo = Math.max(from, 0);
+                        final int hi = Math.min(to, n);
+                        final Sequence<Integer> slice = s.slice(from, to);
+                        assertEquals(slice.size(), Math.max(hi - lo, 0));
+                        assertEquals(toList(slice),
+                            lo < hi ? expected.subList(lo, hi) : new ArrayList<Integer>());
+                    }
+                }
+            }
+
+            seq = seq.pushBack(n);
+            expected.add(n);
+        }
+    }
+
+    @Test
+    public void testSubList()
+    {
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; ++i)
+        {
+            seq = seq.pushBack(i);
+            expected.add(i);
+        }
+
+        final List<Integer> view = seq.subList(10, 90);
+        assertEquals(view, expected.subList(10, 90));
+        assertEquals(view.get(0).intValue(), 10);
+        assertEquals(view.subList(5, 10), expected.subList(15, 20));
+        assertEquals(new ArrayList<>(view.subList(80, 80)), new ArrayList<Integer>());
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void testSubListPastEnd()
+    {
+        seq.pushBack(1).subList(0, 2);
+    }
+
+    @Test(expectedExceptions=UnsupportedOperationException.class)
+    public void testSubListReadOnly()
+    {
+        seq.pushBack(1).subList(0, 1).set(0, 2);
+    }
+
+    @Test
+    public void testTakeAndDropEverywhere()
+    {
+        for (int n = 0; n < 100; ++n)
+        {
+            seq = factory.makeEmpty();
+            for (int i = 0; i < n; ++i)
+            {
+                seq = seq.pushBack(i);
+            }
+
+            for (int i = -1; i <= n + 1; ++i)
+            {
+                final int split = Math.max(0, Math.min(i, n));
+                final Sequence<Integer> left = seq.take(i);
+                final Sequence<Integer> right = seq.drop(i);
+                assertEquals(left.size(), split);
+                assertEquals(right.size(), n - split);
+                assertEquals(left.append(right), seq);
+                if (split < n)
+                {
+                    assertEquals(right.head(), Integer.valueOf(split));
+                }
+            }
+        }
+    }
+
     @Test
     public void testEquals()
     {
@@ -378,4 +906,97 @@ public class TestSequenceFactory
 
             testEquals();
     }
+
+    @Test
+    public void testEqualsEverywhere()
+    {
+        final Integer[] xs = new Integer[500];
+        for (int i = 0; i < xs.length; ++i)
+        {
+            xs[i] = i;
+        }
+        seq = factory.fromArray(xs);
+
+        for (int i = 0; i < xs.length; i += 7)
+        {
+            // Shares everything but the path to i with the original.
+            final Sequence<Integer> same = seq.update(i, new Integer(i));
+            final Sequence<Integer> different = seq.update(i, -1);
+            assertTrue(seq.equals(same));
+            assertTrue(same.equals(seq));
+            assertTrue(!seq.equals(different));
+            assertTrue(!different.equals(seq));
+
+            // Same elements, different shapes.
+            final Sequence<Integer> rebuilt =
+                seq.take(i).append(factory.fromArray(xs).drop(i));
+            assertTrue(seq.equals(rebuilt));
+            assertTrue(!rebuilt.equals(different));
+        }
+
+        assertTrue(!seq.equals(seq.initial()));
+        assertTrue(!seq.initial().equals(seq.tail()));
+    }
+
+    @Test
+    public void testHashCode()
+    {
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 300; ++i)
+        {
+            assertEquals(seq.hashCode(), expected.hashCode());
+            seq = seq.pushBack(i);
+            expected.add(i);
+        }
+
+        // Cached hashes must follow every kind of edit.
+        assertEquals(seq.pushFront(null).hashCode(), toList(seq.pushFront(null)).hashCode());
+        assertEquals(seq.append(seq).hashCode(), toList(seq.append(seq)).hashCode());
+        assertEquals(seq.take(123).hashCode(), expected.subList(0, 123).hashCode());
+        assertEquals(seq.drop(123).hashCode(), expected.subList(123, 300).hashCode());
+        assertEquals(seq.update(42, 7).hashCode(), toList(seq.update(42, 7)).hashCode());
+        assertEquals(seq.reverse().hashCode(), toList(seq.reverse()).hashCode());
+        assertEquals(seq.map(Functions.ADD.call(1)).hashCode(),
+            toList(seq.map(Functions.ADD.call(1))).hashCode());
+    }
+
+    static <A> List<A> toList(final Sequence<A> seq)
+    {
+        final List<A> list = new ArrayList<>();
+        for (final A a : seq)
+        {
+            list.add(a);
+        }
+        return list;
+    }
+
+    // Splits as far as possible, draining the pieces in order, and advancing
+    // one element at a time every so often.
+    private static <A> void drain(
+        final Spliterator<A> iter,
+        final List<A> list)
+    {
+        final long size = iter.estimateSize();
+        final int before = list.size();
+        final Spliterator<A> lower = iter.trySplit();
+        if (null == lower)
+        {
+            while (iter.tryAdvance(list::add))
+            {
+                // pass
+            }
+        }
+        else
+        {
+            assertTrue(lower.estimateSize() > 0);
+            assertTrue(iter.estimateSize() > 0);
+            drain(lower, list);
+            if (0 == size % 3)
+            {
+                iter.tryAdvance(list::add);
+            }
+            drain(iter, list);
+        }
+        assertEquals(list.size() - before, size);
+    }
 }
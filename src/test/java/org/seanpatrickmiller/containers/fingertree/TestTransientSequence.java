@@ -0,0 +1,136 @@
+package org.seanpatrickmiller.containers.fingertree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TestTransientSequence
+{
+    @Test
+    public void testPushBack()
+    {
+        final Sequence<Integer> original = new SequenceFactory<Integer>().make(-1);
+        final TransientSequence<Integer> edits = original.asTransient();
+
+        final List<Integer> expected = new ArrayList<>(Arrays.asList(-1));
+        for (int i = 0; i < 3000; ++i)
+        {
+            edits.pushBack(i);
+            expected.add(i);
+        }
+
+        assertEquals(edits.size(), 3001);
+        assertEquals(edits.at(2000).intValue(), 1999);
+        assertEquals(TestSequenceFactory.toList(edits.persistent()), expected);
+        assertEquals(TestSequenceFactory.toList(original), Arrays.asList(-1));
+    }
+
+    @Test
+    public void testPushFront()
+    {
+        final Sequence<Integer> original = new SequenceFactory<Integer>().make(0);
+        final TransientSequence<Integer> edits = original.asTransient();
+
+        // Pushes at the front go to the tree, whether or not the buffer at
+        // the back is full.
+        final List<Integer> expected = new ArrayList<>(Arrays.asList(0));
+        for (int i = 1; i <= 3000; ++i)
+        {
+            edits.pushFront(-i);
+            expected.add(0, -i);
+            edits.pushBack(i);
+            expected.add(i);
+        }
+
+        assertEquals(edits.size(), 6001);
+        assertEquals(edits.at(0).intValue(), -3000);
+        assertEquals(edits.at(3000).intValue(), 0);
+        assertEquals(TestSequenceFactory.toList(edits.persistent()), expected);
+        assertEquals(TestSequenceFactory.toList(original), Arrays.asList(0));
+    }
+
+    @Test
+    public void testRandomEdits()
+    {
+        final Random rand = new Random(20170101);
+        for (final SequenceFactory<Integer> factory : Arrays.asList(
+            new SequenceFactory<Integer>(), new SequenceFactory<Integer>(8)))
+        {
+            final TransientSequence<Integer> edits = factory.makeEmpty().asTransient();
+            final List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 5000; ++i)
+            {
+                final int choice = rand.nextInt(8);
+                if (choice < 5)
+                {
+                    edits.pushBack(i);
+                    expected.add(i);
+                }
+                else if (choice < 7 || expected.isEmpty())
+                {
+                    final int index = rand.nextInt(expected.size() + 1);
+                    edits.insert(index, i);
+                    expected.add(index, i);
+                }
+                else
+                {
+                    final int index = rand.nextInt(expected.size());
+                    edits.delete(index);
+                    expected.remove(index);
+                }
+
+                assertEquals(edits.size(), expected.size());
+            }
+
+            for (int i = 0; i < expected.size(); i += 97)
+            {
+                assertEquals(edits.at(i), expected.get(i));
+            }
+
+            assertEquals(TestSequenceFactory.toList(edits.persistent()), expected);
+        }
+    }
+
+    @Test(expectedExceptions=IllegalStateException.class)
+    public void testUseAfterPersistent()
+    {
+        final TransientSequence<Integer> edits =
+            new SequenceFactory<Integer>().makeEmpty().asTransient();
+        edits.persistent();
+        edits.pushBack(1);
+    }
+
+    @Test
+    public void testUseFromOtherThread() throws InterruptedException
+    {
+        final TransientSequence<Integer> edits =
+            new SequenceFactory<Integer>().makeEmpty().asTransient();
+        final AtomicReference<Throwable> thrown = new AtomicReference<>();
+
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    edits.pushBack(1);
+                }
+                catch (final Throwable t)
+                {
+                    thrown.set(t);
+                }
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertTrue(thrown.get() instanceof IllegalStateException);
+        assertEquals(edits.size(), 0);
+    }
+}
@@ -0,0 +1,352 @@
+package org.seanpatrickmiller.containers.fingertree.impl;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.seanpatrickmiller.containers.util.Func;
+import org.seanpatrickmiller.containers.util.Functions;
+import org.seanpatrickmiller.containers.util.LongFunc;
+import org.seanpatrickmiller.containers.util.Monoid;
+import org.seanpatrickmiller.containers.util.Monoid2;
+import org.seanpatrickmiller.containers.util.Monoids;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TestFingerTree
+{
+    // Annotates each node with the sum of the elements beneath it.
+    private static final Measured<Integer, Integer> PREFIX_SUM =
+        new Measured<>(
+            new Monoid<>(Functions.ADD, 0),
+            new Func<Integer, Integer>() {
+                @Override
+                public Integer call(final Integer i)
+                {
+                    return i;
+                }
+            });
+
+    // The same, but summed as each node is built.
+    private static final Measured<Integer, Integer> STRICT_PREFIX_SUM =
+        new Measured<>(
+            new Monoid<>(Functions.ADD, 0),
+            new Func<Integer, Integer>() {
+                @Override
+                public Integer call(final Integer i)
+                {
+                    return i;
+                }
+            },
+            true);
+
+    @Test
+    public void testLookup()
+    {
+        for (int n = 1; n < 100; ++n)
+        {
+            // [1,2,...,n]
+            final FingerTree<Integer, Integer> tree = makeTree(n);
+
+            // The element at which the running total first exceeds t.
+            int total = 0;
+            for (int i = 1; i <= n; ++i)
+            {
+                for (int t = total; t < total + i; ++t)
+                {
+                    assertEquals(tree.lookup(greaterThan(t)).intValue(), i);
+                }
+                total += i;
+            }
+        }
+    }
+
+    @Test(expectedExceptions=NoSuchElementException.class)
+    public void testLookupNeverHolds()
+    {
+        makeTree(10).lookup(greaterThan(55));
+    }
+
+    @Test
+    public void testAt()
+    {
+        for (int n = 1; n < 100; ++n)
+        {
+            final FingerTree<Integer, Integer> tree = makeTree(n);
+            for (int i = 0; i < n; ++i)
+            {
+                assertEquals(tree.at(i).intValue(), i + 1);
+            }
+        }
+    }
+
+    @Test
+    public void testAdjust()
+    {
+        for (int n = 1; n < 60; ++n)
+        {
+            final FingerTree<Integer, Integer> tree = makeTree(n);
+            for (int i = 0; i < n; ++i)
+            {
+                // Adding 1000 to one element moves the total with it.
+                final FingerTree<Integer, Integer> adjusted =
+                    tree.adjust(i, Functions.ADD.call(1000));
+                assertEquals(adjusted.measure().intValue(), n * (n + 1) / 2 + 1000);
+                assertEquals(adjusted.lookup(greaterThan(i * (i + 1) / 2)).intValue(), i + 1001);
+            }
+        }
+    }
+
+    @Test
+    public void testChunkedSplit()
+    {
+        for (int n = 1; n < 60; ++n)
+        {
+            final Integer[] xs = new Integer[n];
+            FingerTree<Integer, Integer> pushed = ChunkedFingerTree.empty(PREFIX_SUM, 4);
+            for (int i = 1; i <= n; ++i)
+            {
+                xs[i - 1] = i;
+                pushed = pushed.pushBack(i);
+            }
+            final FingerTree<Integer, Integer> built =
+                ChunkedFingerTree.fromArray(PREFIX_SUM, 4, xs, 0, n);
+
+            for (final FingerTree<Integer, Integer> tree : java.util.Arrays.asList(pushed, built))
+            {
+                assertEquals(tree.measure().intValue(), n * (n + 1) / 2);
+                assertEquals(tree.size(), n);
+
+                int total = 0;
+                for (int i = 1; i <= n; ++i)
+                {
+                    assertEquals(tree.at(i - 1).intValue(), i);
+                    assertEquals(tree.lookup(greaterThan(total)).intValue(), i);
+
+                    final FingerTree.SplitPair<Integer, Integer> pair =
+                        tree.split(greaterThan(total));
+                    assertEquals(pair.left.size(), i - 1);
+                    assertEquals(pair.right.head().intValue(), i);
+                    assertEquals(pair.left.append(pair.right).measure(), tree.measure());
+                    total += i;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testChunkedMixedAppend()
+    {
+        for (int a = 0; a < 30; ++a)
+        {
+            for (int b = 0; b < 30; ++b)
+            {
+                // [1..a] and [a+1..a+b], one of each kind, in both orders.
+                final Integer[] xs = new Integer[a];
+                FingerTree<Integer, Integer> plainLeft = new Empty<>(PREFIX_SUM);
+                for (int i = 1; i <= a; ++i)
+                {
+                    xs[i - 1] = i;
+                    plainLeft = plainLeft.pushBack(i);
+                }
+                final Integer[] ys = new Integer[b];
+                FingerTree<Integer, Integer> plainRight = new Empty<>(PREFIX_SUM);
+                for (int i = 1; i <= b; ++i)
+                {
+                    ys[i - 1] = a + i;
+                    plainRight = plainRight.pushBack(a + i);
+                }
+                final FingerTree<Integer, Integer> chunkedLeft =
+                    ChunkedFingerTree.fromArray(PREFIX_SUM, 4, xs, 0, a);
+                final FingerTree<Integer, Integer> chunkedRight =
+                    ChunkedFingerTree.fromArray(PREFIX_SUM, 4, ys, 0, b);
+
+                final FingerTree<Integer, Integer> first = chunkedLeft.append(plainRight);
+                final FingerTree<Integer, Integer> second = plainLeft.append(chunkedRight);
+                for (final FingerTree<Integer, Integer> tree : java.util.Arrays.asList(first, second))
+                {
+                    final int n = a + b;
+                    assertEquals(tree.size(), n);
+                    assertEquals(tree.measure().intValue(), n * (n + 1) / 2);
+                    for (int i = 0; i < n; ++i)
+                    {
+                        assertEquals(tree.at(i).intValue(), i + 1);
+                    }
+                }
+
+                // The smaller side is rebuilt as the kind of the larger.
+                if (a > 1 && b > 1)
+                {
+                    assertEquals(first instanceof ChunkedFingerTree, a >= b);
+                    assertEquals(second instanceof ChunkedFingerTree, b >= a);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStrict()
+    {
+        FingerTree<Integer, Integer> front = new Empty<>(STRICT_PREFIX_SUM);
+        FingerTree<Integer, Integer> back = new Empty<>(STRICT_PREFIX_SUM);
+        for (int n = 1; n < 100; ++n)
+        {
+            front = front.pushFront(n);
+            back = back.pushBack(n);
+            final FingerTree<Integer, Integer> both = back.append(front.tail());
+            assertEquals(back.measure().intValue(), n * (n + 1) / 2);
+            assertEquals(both.measure().intValue(), n * n);
+
+            // The element at which the running total first exceeds t.
+            int total = 0;
+            for (int i = 1; i <= n; ++i)
+            {
+                assertEquals(back.lookup(greaterThan(total)).intValue(), i);
+
+                final FingerTree.SplitPair<Integer, Integer> pair =
+                    back.split(greaterThan(total));
+                assertEquals(pair.left.measure().intValue(), total);
+                assertEquals(pair.right.head().intValue(), i);
+                total += i;
+            }
+        }
+    }
+
+    @Test
+    public void testUncurried()
+    {
+        final Func<Integer, Integer> identity = new Func<Integer, Integer>() {
+            @Override
+            public Integer call(final Integer i)
+            {
+                return i;
+            }
+        };
+        final Monoid2<Integer> max = new Monoid2<Integer>() {
+            @Override
+            public Integer sum(final Integer a, final Integer b)
+            {
+                return Math.max(a, b);
+            }
+
+            @Override
+            public Integer zero()
+            {
+                return Integer.MIN_VALUE;
+            }
+        };
+
+        final Random rand = new Random(24);
+        FingerTree<Integer, Integer> sums = new Empty<>(new Measured<>(Monoids.SUM, identity, true));
+        FingerTree<Integer, Integer> maxes = new Empty<>(new Measured<>(max, identity));
+        int total = 0;
+        int greatest = Integer.MIN_VALUE;
+        for (int n = 0; n < 300; ++n)
+        {
+            final int x = rand.nextInt(1000);
+            sums = sums.pushBack(x);
+            maxes = maxes.pushFront(x);
+            total += x;
+            greatest = Math.max(greatest, x);
+        }
+
+        assertEquals(sums.measure().intValue(), total);
+        assertEquals(maxes.measure().intValue(), greatest);
+        assertEquals(sums.split(greaterThan(total / 2)).left.measure().intValue(),
+            makeList(sums).split(greaterThan(total / 2)).left.measure().intValue());
+
+        // The Curried form still works for monoids built uncurried.
+        assertEquals(Monoids.SUM.sum(3).call(4).intValue(), 7);
+        assertEquals(Monoids.SUM.sum().call(5).call(6).intValue(), 11);
+        assertEquals(Monoids.boxed(Monoids.LONG_MAX).sum(2L, 9L).longValue(), 9L);
+    }
+
+    // The same elements in a tree summed through the Curried monoid.
+    private static FingerTree<Integer, Integer> makeList(final FingerTree<Integer, Integer> tree)
+    {
+        FingerTree<Integer, Integer> result = new Empty<>(PREFIX_SUM);
+        for (final Integer x : tree)
+        {
+            result = result.pushBack(x);
+        }
+        return result;
+    }
+
+    @Test
+    public void testProduct()
+    {
+        final LongFunc<Integer> one = new LongFunc<Integer>() {
+            @Override
+            public long call(final Integer i)
+            {
+                return 1;
+            }
+        };
+        final LongFunc<Integer> value = new LongFunc<Integer>() {
+            @Override
+            public long call(final Integer i)
+            {
+                return i;
+            }
+        };
+
+        for (final boolean strict : new boolean[] { false, true })
+        {
+            final Measured<long[], Integer> m = Measured.product(strict,
+                Measured.component(Monoids.LONG_SUM, one),
+                Measured.component(Monoids.LONG_MAX, value),
+                Measured.component(Monoids.LONG_MIN, value));
+
+            final Random rand = new Random(17);
+            final int[] xs = new int[200];
+            FingerTree<long[], Integer> tree = new Empty<>(m);
+            for (int n = 0; n < xs.length; ++n)
+            {
+                xs[n] = rand.nextInt(1000);
+                tree = tree.pushBack(xs[n]);
+            }
+
+            long max = Long.MIN_VALUE;
+            long min = Long.MAX_VALUE;
+            for (int i = 0; i < xs.length; ++i)
+            {
+                // Split on the size.
+                final FingerTree.SplitPair<long[], Integer> atIndex =
+                    tree.split(Measured.greaterThan(0, i));
+                assertEquals(atIndex.left.measure(), new long[] { i, max, min });
+                assertEquals(atIndex.right.head().intValue(), xs[i]);
+
+                max = Math.max(max, xs[i]);
+                min = Math.min(min, xs[i]);
+            }
+            assertEquals(tree.measure(), new long[] { xs.length, max, min });
+
+            // Split on the maximum, which finds its first occurrence.
+            final FingerTree.SplitPair<long[], Integer> atMax =
+                tree.split(Measured.atLeast(1, max));
+            assertEquals(atMax.right.head().intValue(), max);
+            assertTrue(atMax.left.measure()[1] < max);
+        }
+    }
+
+    private static FingerTree<Integer, Integer> makeTree(final int n)
+    {
+        FingerTree<Integer, Integer> tree = new Empty<>(PREFIX_SUM);
+        for (int i = 1; i <= n; ++i)
+        {
+            tree = tree.pushBack(i);
+        }
+        return tree;
+    }
+
+    private static Func<Integer, Boolean> greaterThan(final int t)
+    {
+        return new Func<Integer, Boolean>() {
+            @Override
+            public Boolean call(final Integer measurement)
+            {
+                return t < measurement;
+            }
+        };
+    }
+}
@@ -0,0 +1,126 @@
+package org.seanpatrickmiller.containers.intervaltree;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.seanpatrickmiller.containers.util.LongFunc;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TestIntervalTree
+{
+    private static final class Span
+    {
+        final long low;
+        final long high;
+
+        Span(final long low, final long high)
+        {
+            this.low = low;
+            this.high = high;
+        }
+    }
+
+    private final IntervalTreeFactory<Span> factory = new IntervalTreeFactory<>(
+        new LongFunc<Span>() {
+            @Override
+            public long call(final Span s)
+            {
+                return s.low;
+            }
+        },
+        new LongFunc<Span>() {
+            @Override
+            public long call(final Span s)
+            {
+                return s.high;
+            }
+        });
+
+    private static List<Span> toList(final Iterable<Span> spans)
+    {
+        final List<Span> list = new ArrayList<>();
+        for (final Span s : spans)
+        {
+            list.add(s);
+        }
+        return list;
+    }
+
+    // The expected results, in the tree's order.
+    private static List<Span> filter(
+        final IntervalTree<Span> tree,
+        final long lo,
+        final long hi,
+        final boolean dominate)
+    {
+        final List<Span> list = new ArrayList<>();
+        for (final Span s : tree)
+        {
+            if (dominate ? (s.low <= lo && s.high >= hi) : (s.low <= hi && s.high >= lo))
+            {
+                list.add(s);
+            }
+        }
+        return list;
+    }
+
+    @Test
+    public void testQueries()
+    {
+        final Random rand = new Random(3);
+        final Span[] spans = new Span[600];
+        IntervalTree<Span> inserted = factory.makeEmpty();
+        long previous = Long.MIN_VALUE;
+        for (int i = 0; i < spans.length; ++i)
+        {
+            final long low = rand.nextInt(10000) - 5000;
+            spans[i] = new Span(low, low + rand.nextInt(i % 10 == 0 ? 3000 : 50));
+            inserted = inserted.insert(spans[i]);
+        }
+
+        final IntervalTree<Span> built = factory.fromArray(spans);
+        assertEquals(inserted.size(), spans.length);
+        assertEquals(toList(built), toList(inserted));
+        for (final Span s : built)
+        {
+            assertTrue(previous <= s.low);
+            previous = s.low;
+        }
+
+        for (int k = 0; k < 300; ++k)
+        {
+            final long lo = rand.nextInt(12000) - 6000;
+            final long hi = lo + rand.nextInt(k % 2 == 0 ? 10 : 1000);
+            assertEquals(toList(built.intersections(lo, hi)), filter(built, lo, hi, false));
+            assertEquals(toList(built.dominators(lo, hi)), filter(built, lo, hi, true));
+        }
+    }
+
+    @Test
+    public void testLazy()
+    {
+        final Span[] spans = new Span[1000];
+        for (int i = 0; i < spans.length; ++i)
+        {
+            spans[i] = new Span(i, i + 10);
+        }
+        final IntervalTree<Span> tree = factory.fromArray(spans);
+
+        final Iterator<Span> iter = tree.intersections(500, 505).iterator();
+        assertEquals(iter.next().low, 490);
+        assertEquals(iter.next().low, 491);
+        assertEquals(toList(tree.intersections(Long.MIN_VALUE, -1)).size(), 0);
+        assertEquals(toList(tree.intersections(Long.MIN_VALUE, Long.MAX_VALUE)).size(), 1000);
+        assertEquals(toList(factory.makeEmpty().dominators(0, 0)).size(), 0);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void testBackwardInterval()
+    {
+        factory.makeEmpty().insert(new Span(2, 1));
+    }
+}
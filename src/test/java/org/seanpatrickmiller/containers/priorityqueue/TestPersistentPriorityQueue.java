@@ -0,0 +1,143 @@
+package org.seanpatrickmiller.containers.priorityqueue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+import org.seanpatrickmiller.containers.util.LongFunc;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TestPersistentPriorityQueue
+{
+    private final PriorityQueueFactory<Integer> factory =
+        PriorityQueueFactory.natural();
+
+    @Test
+    public void testRandomWorkload()
+    {
+        final Random rand = new Random(42);
+        final PriorityQueue<Integer> expected =
+            new PriorityQueue<>(Collections.<Integer>reverseOrder());
+        PersistentPriorityQueue<Integer> queue = factory.makeEmpty();
+
+        for (int i = 0; i < 5000; ++i)
+        {
+            if (expected.isEmpty() || rand.nextInt(3) > 0)
+            {
+                final int x = rand.nextInt(1000);
+                queue = queue.insert(x);
+                expected.add(x);
+            }
+            else
+            {
+                assertEquals(queue.findMax(), expected.poll());
+                queue = queue.extractMax();
+            }
+
+            assertEquals(queue.size(), expected.size());
+            if (!expected.isEmpty())
+            {
+                assertEquals(queue.findMax(), expected.peek());
+            }
+        }
+    }
+
+    @Test
+    public void testPersistence()
+    {
+        final PersistentPriorityQueue<Integer> queue = factory.make(3, 1, 4, 1, 5);
+        final PersistentPriorityQueue<Integer> rest = queue.extractMax().extractMax();
+
+        assertEquals(queue.size(), 5);
+        assertEquals(queue.findMax().intValue(), 5);
+        assertEquals(rest.size(), 3);
+        assertEquals(rest.findMax().intValue(), 3);
+    }
+
+    @Test
+    public void testMeld()
+    {
+        final List<Integer> all = new ArrayList<>();
+        PersistentPriorityQueue<Integer> left = factory.makeEmpty();
+        PersistentPriorityQueue<Integer> right = factory.makeEmpty();
+        for (int i = 0; i < 300; ++i)
+        {
+            left = left.insert(i * 7 % 300);
+            right = right.insert(i * 11 % 300 + 1);
+            all.add(i * 7 % 300);
+            all.add(i * 11 % 300 + 1);
+        }
+        Collections.sort(all, Collections.<Integer>reverseOrder());
+
+        PersistentPriorityQueue<Integer> both = left.meld(right);
+        for (final Integer x : all)
+        {
+            assertEquals(both.findMax(), x);
+            both = both.extractMax();
+        }
+        assertTrue(both.isEmpty());
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void testMeldOtherFactory()
+    {
+        factory.make(1).meld(PriorityQueueFactory.<Integer>natural().make(2));
+    }
+
+    @Test
+    public void testStability()
+    {
+        // Orders strings by length alone.
+        final PriorityQueueFactory<String> byLength =
+            PriorityQueueFactory.byPriority(new LongFunc<String>() {
+                @Override
+                public long call(final String s)
+                {
+                    return s.length();
+                }
+            });
+
+        PersistentPriorityQueue<String> queue =
+            byLength.make("bb", "a", "cc", "ddd", "e", "ff");
+        for (final String s : new String[] { "ddd", "bb", "cc", "ff", "a", "e" })
+        {
+            assertEquals(queue.findMax(), s);
+            queue = queue.extractMax();
+        }
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void testMakeNull()
+    {
+        factory.make(1, 2, null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void testFromArrayNull()
+    {
+        factory.fromArray(new Integer[] { null, 1 });
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void testFromCollectionNull()
+    {
+        factory.fromCollection(java.util.Arrays.asList(1, null));
+    }
+
+    @Test(expectedExceptions=NoSuchElementException.class)
+    public void testFindMaxEmpty()
+    {
+        factory.makeEmpty().findMax();
+    }
+
+    @Test(expectedExceptions=NoSuchElementException.class)
+    public void testExtractMaxEmpty()
+    {
+        factory.makeEmpty().extractMax();
+    }
+}
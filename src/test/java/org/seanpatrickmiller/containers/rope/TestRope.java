@@ -0,0 +1,185 @@
+package org.seanpatrickmiller.containers.rope;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TestRope
+{
+    private static String randomText(final Random rand, final int length)
+    {
+        final StringBuilder result = new StringBuilder(length);
+        for (int i = 0; i < length; ++i)
+        {
+            final int choice = rand.nextInt(16);
+            result.append(0 == choice ? '\n' : (char) ('a' + rand.nextInt(26)));
+        }
+        return result.toString();
+    }
+
+    @Test
+    public void testOf()
+    {
+        final String text = randomText(new Random(20170101), 5000);
+        final Rope rope = Rope.of(text);
+
+        assertEquals(rope.length(), text.length());
+        assertEquals(rope.toString(), text);
+        for (int i = 0; i < text.length(); i += 7)
+        {
+            assertEquals(rope.charAt(i), text.charAt(i));
+        }
+        assertEquals(Rope.empty().length(), 0);
+        assertEquals(Rope.empty().toString(), "");
+    }
+
+    @Test
+    public void testRandomEdits()
+    {
+        final Random rand = new Random(20170102);
+        final StringBuilder expected = new StringBuilder(randomText(rand, 3000));
+        Rope rope = Rope.of(expected);
+
+        for (int i = 0; i < 2000; ++i)
+        {
+            if (rand.nextBoolean() || expected.length() == 0)
+            {
+                final int at = rand.nextInt(expected.length() + 1);
+                final String text = randomText(rand, rand.nextInt(3) == 0 ? 1500 : 8);
+                rope = rope.insert(at, text);
+                expected.insert(at, text);
+            }
+            else
+            {
+                final int from = rand.nextInt(expected.length());
+                final int to = Math.min(expected.length(), from + rand.nextInt(600));
+                rope = rope.delete(from, to);
+                expected.delete(from, to);
+            }
+
+            assertEquals(rope.length(), expected.length());
+            if (expected.length() > 0)
+            {
+                // Edits leave chunks of uneven length to look through.
+                final int at = rand.nextInt(expected.length());
+                assertEquals(rope.charAt(at), expected.charAt(at));
+            }
+        }
+
+        assertEquals(rope.toString(), expected.toString());
+        int line = 0;
+        for (int i = 0; i < expected.length(); ++i)
+        {
+            if ('\n' == expected.charAt(i))
+            {
+                ++line;
+                assertEquals(rope.lineStart(line), i + 1);
+            }
+        }
+    }
+
+    @Test
+    public void testSubstring()
+    {
+        final Random rand = new Random(20170103);
+        final String text = randomText(rand, 10000);
+        final Rope rope = Rope.of(text);
+
+        for (int i = 0; i < 200; ++i)
+        {
+            final int from = rand.nextInt(text.length() + 1);
+            final int to = from + rand.nextInt(text.length() - from + 1);
+            final Rope sub = rope.substring(from, to);
+            assertEquals(sub.toString(), text.substring(from, to));
+            assertEquals(sub.lineCount(), countLines(text.substring(from, to)));
+        }
+
+        assertEquals(rope.subSequence(0, 3).toString(), text.substring(0, 3));
+        assertEquals(rope.substring(0, 100).append(rope.substring(100, 200)).toString(),
+            text.substring(0, 200));
+    }
+
+    private static int countLines(final String text)
+    {
+        int result = 1;
+        for (int i = 0; i < text.length(); ++i)
+        {
+            if ('\n' == text.charAt(i))
+            {
+                ++result;
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testLineStart()
+    {
+        final String text = randomText(new Random(20170104), 20000);
+        final Rope rope = Rope.of(text);
+
+        assertEquals(rope.lineCount(), countLines(text));
+        int line = 0;
+        assertEquals(rope.lineStart(0), 0);
+        for (int i = 0; i < text.length(); ++i)
+        {
+            if ('\n' == text.charAt(i))
+            {
+                ++line;
+                assertEquals(rope.lineStart(line), i + 1);
+            }
+        }
+    }
+
+    @Test
+    public void testUtf8Length()
+    {
+        final String text = "plain, café, €, 😀\n";
+        Rope rope = Rope.empty();
+        for (int i = 0; i < 500; ++i)
+        {
+            rope = rope.insert(rope.length(), text);
+        }
+
+        // Edits cut the text at every index, including between the halves of
+        // the surrogate pairs, without changing the count.
+        final StringBuilder expected = new StringBuilder(rope);
+        for (int i = 1; i < 300; ++i)
+        {
+            final int at = (i * 37) % rope.length();
+            rope = rope.insert(at, "x").delete(at, at + 1);
+        }
+
+        assertEquals(rope.toString(), expected.toString());
+        assertEquals(rope.utf8Length(),
+            expected.toString().getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    public void testRegex()
+    {
+        final String text = randomText(new Random(20170105), 20000) + "needle" +
+            randomText(new Random(20170106), 20000);
+        final Matcher matcher = Pattern.compile("ne+dle").matcher(Rope.of(text));
+
+        assertTrue(matcher.find());
+        assertEquals(matcher.start(), text.indexOf("needle"));
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void testCharAtOutOfRange()
+    {
+        Rope.of("abc").charAt(3);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void testLineStartOutOfRange()
+    {
+        Rope.of("a\nb").lineStart(2);
+    }
+}
@@ -0,0 +1,93 @@
+package org.seanpatrickmiller.containers.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class TestRacyLazy
+{
+    // Implementation. Each evaluation yields a distinct, equal object.
+    final class TestSubject extends RacyLazy<String>
+    {
+        private final AtomicInteger count = new AtomicInteger(0);
+
+        @Override
+        protected String eval()
+        {
+            count.incrementAndGet();
+            return new String("value");
+        }
+
+        public int getCount()
+        {
+            return count.get();
+        }
+    }
+
+    @Test
+    public void testEvaluatesOnce()
+    {
+        final TestSubject subject = new TestSubject();
+        final String first = subject.getValue();
+        assertSame(subject.getValue(), first);
+        assertEquals(subject.getCount(), 1);
+    }
+
+    /**
+     * Every thread must see the same published instance, however many times
+     * the thunk ran.
+     */
+    @Test
+    public void testThreadsAgree() throws InterruptedException
+    {
+        final int threadCount = Math.max(2, Runtime.getRuntime().availableProcessors());
+        for (int trial = 0; trial < 1000; ++trial)
+        {
+            final TestSubject subject = new TestSubject();
+            final AtomicReferenceArray<String> seen =
+                new AtomicReferenceArray<>(threadCount);
+            final CountDownLatch startLatch = new CountDownLatch(1);
+            final CountDownLatch stopLatch = new CountDownLatch(threadCount);
+
+            for (int i = 0; i < threadCount; ++i)
+            {
+                final int slot = i;
+                new Thread(new Runnable() {
+                    @Override
+                    public void run()
+                    {
+                        try
+                        {
+                            startLatch.await();
+                            seen.set(slot, subject.getValue());
+                        }
+                        catch (final InterruptedException exn)
+                        {
+                            Thread.currentThread().interrupt();
+                        }
+                        finally
+                        {
+                            stopLatch.countDown();
+                        }
+                    }
+                }).start();
+            }
+
+            startLatch.countDown();
+            stopLatch.await();
+
+            final String winner = subject.getValue();
+            for (int i = 0; i < threadCount; ++i)
+            {
+                assertSame(seen.get(i), winner);
+            }
+            assertTrue(subject.getCount() >= 1);
+        }
+    }
+}